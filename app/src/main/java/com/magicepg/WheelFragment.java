@@ -4,6 +4,7 @@ import android.app.Dialog;
 import android.graphics.PointF;
 import android.os.Bundle;
 import android.support.v4.app.DialogFragment;
+import android.util.Log;
 import android.view.Gravity;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -12,10 +13,14 @@ import android.view.Window;
 import android.view.WindowManager;
 import android.widget.FrameLayout;
 
+import com.bumptech.glide.Glide;
+import com.magicepg.animation.FrameAnimationClock;
 import com.magicepg.coversflow.CoverEntity;
 import com.magicepg.coversflow.CoversFlowComputationHelper;
+import com.magicepg.coversflow.widget.CoverView;
 import com.magicepg.coversflow.widget.HorizontalCoversFlowView;
 import com.magicepg.func.Consumer;
+import com.magicepg.image.ImageLoadingScheduler;
 import com.magicepg.util.DimensionUtils;
 import com.magicepg.wheel.WheelComputationHelper;
 import com.magicepg.wheel.WheelListener;
@@ -44,6 +49,17 @@ public final class WheelFragment extends DialogFragment {
 
     public static final String TAG = WheelFragment.class.getCanonicalName();
 
+    /**
+     * Amount of sectors at each side of the selected one which covers are prefetched for.
+     */
+    private static final int COVERS_PREFETCH_NEIGHBOURS_AMOUNT = 2;
+
+    /**
+     * Amount of leading covers which images are preloaded while wheel is flinging -
+     * roughly what fits on the screen when covers flow appears.
+     */
+    private static final int PREDICTED_COVER_IMAGES_PRELOAD_AMOUNT = 6;
+
     @Bind(R.id.wheel_container_frame)
     WheelsContainerFrameView wheelsContainerFrameView;
 
@@ -68,6 +84,9 @@ public final class WheelFragment extends DialogFragment {
         WheelComputationHelper.initialize(getActivity(), createWheelConfigForWheel());
         WheelComputationHelper computationHelper = WheelComputationHelper.getInstance();
         CoversFlowComputationHelper.initialize(computationHelper);
+        // images are requested and animations are run only while the page is alive
+        ImageLoadingScheduler.initialize(Glide.with(this));
+        FrameAnimationClock.initialize();
     }
 
     @Override
@@ -121,19 +140,47 @@ public final class WheelFragment extends DialogFragment {
                 loadCoverEntitiesForSelectedWheelItem(selectedDataItem);
             }
 
+            @Override
+            public void onDataItemPredictedToBeSelected(WheelDataItem predictedDataItem) {
+                preloadCoversForPredictedWheelItem(predictedDataItem);
+            }
+
             @Override
             public void onWheelRotationStateChange(WheelRotationState wheelRotationState) {
                 if (wheelRotationState == WheelRotationState.InRotation) {
                     horizontalCoversFlowView.hideWithScaleDownAnimation();
                 } else if (wheelRotationState == WheelRotationState.RotationStopped) {
                     horizontalCoversFlowView.displayWithScaleUpAnimation();
+                    wheelPageDataLoader.prefetchCoverEntitiesByWheelItems(
+                            wheelsContainerFrameView.getSelectedSectorNeighbourDataItems(COVERS_PREFETCH_NEIGHBOURS_AMOUNT)
+                    );
                 }
             }
         });
 
+        wheelsContainerFrameView.setOnWheelInteractiveListener(new WheelsContainerFrameView.OnWheelInteractiveListener() {
+            @Override
+            public void onWheelInteractive(long timeToInteractiveInMillis) {
+                Log.i(TAG, "Wheel is interactive in " + timeToInteractiveInMillis + " ms");
+            }
+        });
+
         loadWheelDataItems();
     }
 
+    @Override
+    public void onDestroyView() {
+        wheelPageDataLoader.dispose();
+        super.onDestroyView();
+    }
+
+    @Override
+    public void onDestroy() {
+        ImageLoadingScheduler.release();
+        FrameAnimationClock.release();
+        super.onDestroy();
+    }
+
     @Override
     public void dismiss() {
         horizontalCoversFlowView.dispose();
@@ -151,7 +198,7 @@ public final class WheelFragment extends DialogFragment {
             @Override
             public void accept(WheelPageDataLoader.WheelData wheelData) {
                 wheelsContainerFrameView.swapDataAndRelayoutWheelsStartingFromPosition(
-                        wheelData.getWheelDataItems(),
+                        wheelData.getWheelDataWindow(),
                         wheelData.getDataItemPositionToSelect()
                 );
             }
@@ -168,6 +215,15 @@ public final class WheelFragment extends DialogFragment {
         });
     }
 
+    private void preloadCoversForPredictedWheelItem(WheelDataItem predictedDataItem) {
+        wheelPageDataLoader.prefetchCoverEntitiesByPredictedWheelItem(predictedDataItem, new Consumer<List<CoverEntity>>() {
+            @Override
+            public void accept(List<CoverEntity> covers) {
+                final int imagesToPreloadAmount = Math.min(covers.size(), PREDICTED_COVER_IMAGES_PRELOAD_AMOUNT);
+                CoverView.preloadCoverImages(covers.subList(0, imagesToPreloadAmount));
+            }
+        });
+    }
 
     private WheelConfig createWheelConfigForWheel() {
         final int screenHeight = WheelComputationHelper.computeScreenDimensions(getActivity()).getHeight();
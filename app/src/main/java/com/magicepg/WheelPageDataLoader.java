@@ -1,13 +1,25 @@
 package com.magicepg;
 
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.LruCache;
+
 import com.magicepg.coversflow.CoverEntity;
 import com.magicepg.func.Consumer;
+import com.magicepg.func.Function0;
 import com.magicepg.util.ImageUtils;
+import com.magicepg.wheel.WheelDataWindow;
 import com.magicepg.wheel.entity.WheelDataItem;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import entity.Color;
 
@@ -15,6 +27,9 @@ import entity.Color;
 /**
  * Takes responsibility of loading wheel's data items and resolving
  * position which has to be selected in wheel by default.
+ * <p>
+ * Wheel's data items are fetched page by page on background thread
+ * and only for the positions wheel actually displays.
  *
  * @author Alexey Kovalev
  * @since 29.03.2017
@@ -27,39 +42,338 @@ public final class WheelPageDataLoader {
      */
     private static final int DEFAULT_POSITION_TO_START_WHEELS_LAYOUT = 0;
 
+    private static final int WHEEL_DATA_ITEMS_COUNT = 100;
+
+    /**
+     * Page covers all sectors which might be displayed simultaneously in both wheel parts.
+     */
+    private static final int WHEEL_DATA_PAGE_SIZE = 20;
+
+    /**
+     * Amount of pages loaded before and after page containing position to select
+     * in order to fill in both wheel parts right away.
+     */
+    private static final int INITIAL_PAGES_AMOUNT_AT_EACH_SIDE = 1;
+
+    /**
+     * Pages around displayed sectors plus a few ones the wheel has been just rotated through.
+     * The rest of pages are unloaded.
+     */
+    private static final int WHEEL_DATA_MAX_LOADED_PAGES_AMOUNT = 6;
+
+    private static final int COVERS_PER_WHEEL_ITEM_AMOUNT = 20;
+
+    /**
+     * Selection which follows the previous one within this delay is a part of the burst - e.g. fast
+     * channel surfing. Burst's selections are coalesced into a single covers loading started once
+     * selecting pauses, while a standalone selection is loaded right away.
+     */
+    private static final long COVERS_LOADING_COALESCING_DELAY_IN_MS = 250;
+
+    /**
+     * Amount of cover lists kept in memory - enough for going back and forth
+     * between neighbouring channels of the several recently visited wheel positions.
+     */
+    private static final int COVER_ENTITIES_CACHE_SIZE = 32;
+
+    private static final Consumer<List<CoverEntity>> NO_OP_COVERS_CONSUMER = new Consumer<List<CoverEntity>>() {
+        @Override
+        public void accept(List<CoverEntity> covers) {
+        }
+    };
+
+    private final ExecutorService backgroundExecutor = Executors.newSingleThreadExecutor();
+    /**
+     * Separate executor in order to don't put covers loading behind wheel pages loading.
+     */
+    private final ExecutorService coversLoadingExecutor = Executors.newSingleThreadExecutor();
+    /**
+     * Prefetches are run separately as well - so selected item's covers are never
+     * queued behind prefetches.
+     */
+    private final ExecutorService coversPrefetchingExecutor = Executors.newSingleThreadExecutor();
+    private final Handler mainThreadHandler = new Handler(Looper.getMainLooper());
+
+    private boolean isDisposed;
+
+    /**
+     * Incremented on every covers loading request - only result of the latest
+     * request is delivered.
+     */
+    private int coversLoadingGeneration;
+    private Runnable pendingCoversLoadingRunnable;
+    private long lastCoversLoadingRequestTimeInMillis = -COVERS_LOADING_COALESCING_DELAY_IN_MS;
+    private Future<?> inFlightCoversLoading;
+    private final Map<WheelDataItem, CoversPrefetch> inFlightCoversPrefetches = new HashMap<>();
+    private WheelDataItem awaitedPrefetchWheelItem;
+    private Consumer<List<CoverEntity>> awaitedPrefetchCoversConsumer;
+
+    private final LruCache<WheelDataItem, List<CoverEntity>> coverEntitiesCache = new LruCache<>(COVER_ENTITIES_CACHE_SIZE);
+
+    private final WheelDataWindow.PageLoader wheelDataPageLoader = new WheelDataWindow.PageLoader() {
+        @Override
+        public void loadPage(final int fromRealPosition, final int itemsCount, Consumer<List<WheelDataItem>> pageConsumer) {
+            runInBackground(backgroundExecutor, new Function0<List<WheelDataItem>>() {
+                @Override
+                public List<WheelDataItem> call() {
+                    return fetchWheelDataItems(fromRealPosition, itemsCount);
+                }
+            }, pageConsumer);
+        }
+    };
+
+    /**
+     * Delivers {@link WheelData} on the main thread as soon as items count is known -
+     * items themselves arrive later page by page.
+     */
+    public void loadWheelData(final Consumer<WheelData> wheelDataConsumer) {
+        runInBackground(backgroundExecutor, new Function0<Integer>() {
+            @Override
+            public Integer call() {
+                return fetchWheelDataItemsCount();
+            }
+        }, new Consumer<Integer>() {
+            @Override
+            public void accept(Integer wheelDataItemsCount) {
+                final WheelDataWindow dataWindow = WheelDataWindow.paged(
+                        wheelDataItemsCount, WHEEL_DATA_PAGE_SIZE, WHEEL_DATA_MAX_LOADED_PAGES_AMOUNT, wheelDataPageLoader
+                );
+                dataWindow.requestPagesAround(DEFAULT_POSITION_TO_START_WHEELS_LAYOUT, INITIAL_PAGES_AMOUNT_AT_EACH_SIDE);
+                wheelDataConsumer.accept(new WheelData(dataWindow, DEFAULT_POSITION_TO_START_WHEELS_LAYOUT));
+            }
+        });
+    }
+
+    /**
+     * Loads covers for selected wheel item off the main thread. Newer request cancels
+     * the previous one, so {@code resConsumer} is called only for the item which
+     * is still selected. Cached covers are delivered immediately, and if covers
+     * for this item are being prefetched right now - prefetching result is awaited.
+     */
+    public void loadCoverEntitiesByWheelItem(final WheelDataItem selectedWheelItem, final Consumer<List<CoverEntity>> resConsumer) {
+        cancelCoverEntitiesLoading(selectedWheelItem);
+        final int requestGeneration = coversLoadingGeneration;
+        final long requestTimeInMillis = SystemClock.uptimeMillis();
+        final boolean isWithinSelectionsBurst =
+                requestTimeInMillis - lastCoversLoadingRequestTimeInMillis < COVERS_LOADING_COALESCING_DELAY_IN_MS;
+        lastCoversLoadingRequestTimeInMillis = requestTimeInMillis;
+
+        final List<CoverEntity> cachedCovers = coverEntitiesCache.get(selectedWheelItem);
+        if (cachedCovers != null) {
+            resConsumer.accept(cachedCovers);
+            return;
+        }
+        if (inFlightCoversPrefetches.containsKey(selectedWheelItem)) {
+            awaitedPrefetchWheelItem = selectedWheelItem;
+            awaitedPrefetchCoversConsumer = resConsumer;
+            return;
+        }
+
+        pendingCoversLoadingRunnable = new Runnable() {
+            @Override
+            public void run() {
+                pendingCoversLoadingRunnable = null;
+                inFlightCoversLoading = runInBackground(coversLoadingExecutor, new Function0<List<CoverEntity>>() {
+                    @Override
+                    public List<CoverEntity> call() {
+                        return fetchCoverEntities(selectedWheelItem);
+                    }
+                }, new Consumer<List<CoverEntity>>() {
+                    @Override
+                    public void accept(List<CoverEntity> covers) {
+                        coverEntitiesCache.put(selectedWheelItem, covers);
+                        if (requestGeneration == coversLoadingGeneration) {
+                            inFlightCoversLoading = null;
+                            resConsumer.accept(covers);
+                        }
+                    }
+                });
+            }
+        };
+        if (isWithinSelectionsBurst) {
+            mainThreadHandler.postDelayed(pendingCoversLoadingRunnable, COVERS_LOADING_COALESCING_DELAY_IN_MS);
+        } else {
+            pendingCoversLoadingRunnable.run();
+        }
+    }
+
+    /**
+     * Loads into cache covers for those of {@code wheelItems} which haven't been cached yet.
+     * Prefetching is cancelled by the next covers loading request.
+     */
+    public void prefetchCoverEntitiesByWheelItems(List<WheelDataItem> wheelItems) {
+        final Map<WheelDataItem, List<CoverEntity>> cachedCovers = coverEntitiesCache.snapshot();
+        for (WheelDataItem wheelItem : wheelItems) {
+            if (!cachedCovers.containsKey(wheelItem)) {
+                prefetchCoverEntities(wheelItem, NO_OP_COVERS_CONSUMER);
+            }
+        }
+    }
+
+    /**
+     * Loads covers for wheel item which is going to be selected when wheel stops.
+     * {@code resConsumer} gets covers as soon as they are loaded - so that images
+     * might be loaded in advance as well.
+     */
+    public void prefetchCoverEntitiesByPredictedWheelItem(WheelDataItem predictedWheelItem, Consumer<List<CoverEntity>> resConsumer) {
+        final List<CoverEntity> cachedCovers = coverEntitiesCache.get(predictedWheelItem);
+        if (cachedCovers != null) {
+            resConsumer.accept(cachedCovers);
+        } else {
+            prefetchCoverEntities(predictedWheelItem, resConsumer);
+        }
+    }
+
+    private void prefetchCoverEntities(final WheelDataItem wheelItem, final Consumer<List<CoverEntity>> prefetchedCoversConsumer) {
+        if (wheelItem.isPlaceholder() || inFlightCoversPrefetches.containsKey(wheelItem)) {
+            return;
+        }
+        final CoversPrefetch prefetch = new CoversPrefetch();
+        prefetch.future = runInBackground(coversPrefetchingExecutor, new Function0<List<CoverEntity>>() {
+            @Override
+            public List<CoverEntity> call() {
+                return fetchCoverEntities(wheelItem);
+            }
+        }, new Consumer<List<CoverEntity>>() {
+            @Override
+            public void accept(List<CoverEntity> covers) {
+                // result might have been posted right before prefetch was cancelled, and
+                // a newer prefetch for the same item might be in flight now
+                if (inFlightCoversPrefetches.get(wheelItem) != prefetch) {
+                    return;
+                }
+                inFlightCoversPrefetches.remove(wheelItem);
+                coverEntitiesCache.put(wheelItem, covers);
+                prefetchedCoversConsumer.accept(covers);
+                if (wheelItem.equals(awaitedPrefetchWheelItem)) {
+                    final Consumer<List<CoverEntity>> awaitedCoversConsumer = awaitedPrefetchCoversConsumer;
+                    awaitedPrefetchWheelItem = null;
+                    awaitedPrefetchCoversConsumer = null;
+                    awaitedCoversConsumer.accept(covers);
+                }
+            }
+        });
+        if (prefetch.future != null) {
+            inFlightCoversPrefetches.put(wheelItem, prefetch);
+        }
+    }
+
+    /**
+     * Returns hits, misses and evictions of the covers cache.
+     */
+    public String getCoverEntitiesCacheStats() {
+        return coverEntitiesCache.toString() + "[evictions=" + coverEntitiesCache.evictionCount() + "]";
+    }
+
+    public void cancelCoverEntitiesLoading() {
+        cancelCoverEntitiesLoading(null);
+    }
 
-    public void loadWheelData(Consumer<WheelData> wheelDataConsumer) {
-        List<WheelDataItem> items = new ArrayList<>();
-        for (int i = 0; i < 100; i++) {
-            items.add(new WheelDataItem(
+    /**
+     * Cancels all covers loadings except prefetching for {@code wheelItemToKeepPrefetching}.
+     */
+    private void cancelCoverEntitiesLoading(WheelDataItem wheelItemToKeepPrefetching) {
+        coversLoadingGeneration++;
+        awaitedPrefetchWheelItem = null;
+        awaitedPrefetchCoversConsumer = null;
+        if (pendingCoversLoadingRunnable != null) {
+            mainThreadHandler.removeCallbacks(pendingCoversLoadingRunnable);
+            pendingCoversLoadingRunnable = null;
+        }
+        if (inFlightCoversLoading != null) {
+            inFlightCoversLoading.cancel(true);
+            inFlightCoversLoading = null;
+        }
+        final Iterator<Map.Entry<WheelDataItem, CoversPrefetch>> prefetchesIterator = inFlightCoversPrefetches.entrySet().iterator();
+        while (prefetchesIterator.hasNext()) {
+            final Map.Entry<WheelDataItem, CoversPrefetch> prefetch = prefetchesIterator.next();
+            if (!prefetch.getKey().equals(wheelItemToKeepPrefetching)) {
+                prefetch.getValue().future.cancel(true);
+                prefetchesIterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Drops all not yet delivered results. Loader can't be used after this call.
+     */
+    public void dispose() {
+        isDisposed = true;
+        cancelCoverEntitiesLoading();
+        coverEntitiesCache.evictAll();
+        backgroundExecutor.shutdownNow();
+        coversLoadingExecutor.shutdownNow();
+        coversPrefetchingExecutor.shutdownNow();
+        mainThreadHandler.removeCallbacksAndMessages(null);
+    }
+
+    private <T> Future<?> runInBackground(ExecutorService executor,
+                                          final Function0<T> backgroundTask,
+                                          final Consumer<T> mainThreadResConsumer) {
+        if (isDisposed) {
+            return null;
+        }
+        return executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                final T res = backgroundTask.call();
+                mainThreadHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (!isDisposed) {
+                            mainThreadResConsumer.accept(res);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    private static int fetchWheelDataItemsCount() {
+        return WHEEL_DATA_ITEMS_COUNT;
+    }
+
+    private static List<WheelDataItem> fetchWheelDataItems(int fromRealPosition, int itemsCount) {
+        final List<WheelDataItem> res = new ArrayList<>(itemsCount);
+        for (int i = fromRealPosition; i < fromRealPosition + itemsCount; i++) {
+            res.add(new WheelDataItem(
+                    String.valueOf(i),
                     "Sector#" + i,
                     ImageUtils.getRandomColor(),
                     ImageUtils.getRandomImageUri()
             ));
         }
-        wheelDataConsumer.accept(new WheelData(items, DEFAULT_POSITION_TO_START_WHEELS_LAYOUT));
+        return res;
     }
 
-    public void loadCoverEntitiesByWheelItem(WheelDataItem selectedWheelItem, Consumer<List<CoverEntity>> resConsumer) {
-        List<CoverEntity> res = new ArrayList<>();
-        for (int i = 0; i < 20; i++) {
+    private static List<CoverEntity> fetchCoverEntities(WheelDataItem wheelItem) {
+        final List<CoverEntity> res = new ArrayList<>(COVERS_PER_WHEEL_ITEM_AMOUNT);
+        for (int i = 0; i < COVERS_PER_WHEEL_ITEM_AMOUNT; i++) {
             res.add(new CoverEntity("Cover#" + i, ImageUtils.getRandomImageUri(), Color.BLACK));
         }
-        resConsumer.accept(res);
+        return res;
+    }
+
+    /**
+     * In flight covers prefetch - its result is delivered only while it's still registered
+     * in {@link #inFlightCoversPrefetches}.
+     */
+    private static final class CoversPrefetch {
+        private Future<?> future;
     }
 
     public static final class WheelData {
 
-        private final List<WheelDataItem> wheelDataItems;
+        private final WheelDataWindow wheelDataWindow;
         private final int dataItemPositionToSelect;
 
-        public WheelData(List<WheelDataItem> wheelDataItems, int dataItemPositionToSelect) {
-            this.wheelDataItems = wheelDataItems;
+        public WheelData(WheelDataWindow wheelDataWindow, int dataItemPositionToSelect) {
+            this.wheelDataWindow = wheelDataWindow;
             this.dataItemPositionToSelect = dataItemPositionToSelect;
         }
 
-        public List<WheelDataItem> getWheelDataItems() {
-            return Collections.unmodifiableList(wheelDataItems);
+        public WheelDataWindow getWheelDataWindow() {
+            return wheelDataWindow;
         }
 
         public int getDataItemPositionToSelect() {
@@ -0,0 +1,158 @@
+package com.magicepg.animation;
+
+import android.animation.TimeInterpolator;
+import android.view.animation.AccelerateDecelerateInterpolator;
+
+import com.magicepg.func.Preconditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Float value animation advanced by {@link FrameAnimationClock}. Unlike {@link android.animation.ValueAnimator}
+ * it's meant to be created once per animated property and reused: {@link #animateTo(float)} retargets
+ * in-flight animation from its current value, so consecutive animations of the same property
+ * continue each other instead of jumping to their start values.
+ * <p>
+ * Animation's time starts with the first frame after {@link #start()}.
+ *
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+public final class FrameAnimation {
+
+    private static final long NOT_STARTED_FRAME_TIME = -1;
+
+    public interface Listener {
+        void onAnimationStart(FrameAnimation animation);
+
+        void onAnimationUpdate(FrameAnimation animation);
+
+        /**
+         * Isn't invoked for cancelled animation.
+         */
+        void onAnimationEnd(FrameAnimation animation);
+    }
+
+    public static class ListenerAdapter implements Listener {
+        @Override
+        public void onAnimationStart(FrameAnimation animation) {
+        }
+
+        @Override
+        public void onAnimationUpdate(FrameAnimation animation) {
+        }
+
+        @Override
+        public void onAnimationEnd(FrameAnimation animation) {
+        }
+    }
+
+    private final FrameAnimationClock clock;
+    private final List<Listener> listeners = new ArrayList<>();
+
+    private TimeInterpolator interpolator = new AccelerateDecelerateInterpolator();
+    private long durationInNanos;
+
+    private float startValue;
+    private float endValue;
+    private float animatedValue;
+
+    private boolean isRunning;
+    private long startFrameTimeInNanos = NOT_STARTED_FRAME_TIME;
+
+    public FrameAnimation() {
+        this.clock = Preconditions.checkNotNull(FrameAnimationClock.getInstance(),
+                "Frame animation clock has to be initialized before animations are created.");
+    }
+
+    public FrameAnimation setDuration(long durationInMillis) {
+        this.durationInNanos = TimeUnit.MILLISECONDS.toNanos(durationInMillis);
+        return this;
+    }
+
+    public FrameAnimation setInterpolator(TimeInterpolator interpolator) {
+        this.interpolator = interpolator;
+        return this;
+    }
+
+    public FrameAnimation addListener(Listener listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Animated value is reset to {@code fromValue} unless animation is running.
+     */
+    public FrameAnimation setFloatValues(float fromValue, float toValue) {
+        this.startValue = fromValue;
+        this.endValue = toValue;
+        if (!isRunning) {
+            this.animatedValue = fromValue;
+        }
+        return this;
+    }
+
+    public void start() {
+        animatedValue = startValue;
+        startFrameTimeInNanos = NOT_STARTED_FRAME_TIME;
+        isRunning = true;
+        clock.start(this);
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onAnimationStart(this);
+        }
+    }
+
+    /**
+     * Animates from the current value to {@code toValue} during the whole duration.
+     * Does nothing when the value is already there.
+     */
+    public void animateTo(float toValue) {
+        if (isRunning ? toValue == endValue : toValue == animatedValue) {
+            return;
+        }
+        startValue = animatedValue;
+        endValue = toValue;
+        start();
+    }
+
+    /**
+     * Stops animation at the current value without notifying about its end.
+     */
+    public void cancel() {
+        isRunning = false;
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    public float getAnimatedValue() {
+        return animatedValue;
+    }
+
+    void doFrame(long frameTimeNanos) {
+        if (startFrameTimeInNanos == NOT_STARTED_FRAME_TIME) {
+            startFrameTimeInNanos = frameTimeNanos;
+        }
+        final long currentStartFrameTimeInNanos = startFrameTimeInNanos;
+
+        final float elapsedFraction = durationInNanos == 0 ? 1 :
+                Math.min(1, (float) (frameTimeNanos - startFrameTimeInNanos) / durationInNanos);
+        animatedValue = startValue + (endValue - startValue) * interpolator.getInterpolation(elapsedFraction);
+
+        for (int i = 0; i < listeners.size() && isRunning; i++) {
+            listeners.get(i).onAnimationUpdate(this);
+        }
+
+        // listeners might have cancelled or restarted animation
+        if (elapsedFraction == 1 && isRunning && currentStartFrameTimeInNanos == startFrameTimeInNanos) {
+            isRunning = false;
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onAnimationEnd(this);
+            }
+        }
+    }
+
+}
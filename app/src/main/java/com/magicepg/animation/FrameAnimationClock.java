@@ -0,0 +1,162 @@
+package com.magicepg.animation;
+
+import android.graphics.Rect;
+import android.view.Choreographer;
+import android.view.View;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single clock for all wheel page animations. It ticks once per vsync via {@link Choreographer}
+ * while at least one {@link FrameAnimation} is running, and advances all of them in one pass
+ * using the same frame time - so animations of different views never get out of step.
+ * <p>
+ * Views invalidated via {@link #invalidate(View)} during the pass are invalidated once, when
+ * all animations have been advanced.
+ * <p>
+ * Clock lives as long as the wheel page: it's initialized when the page is created and
+ * released when the page is destroyed - all its animations are cancelled then, so neither
+ * frame callback nor animations outlive the page.
+ * <p>
+ * Must be used from the main thread only.
+ *
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+public final class FrameAnimationClock {
+
+    private static FrameAnimationClock instance;
+
+    private final List<FrameAnimation> activeAnimations = new ArrayList<>();
+    private final List<View> viewsToInvalidate = new ArrayList<>();
+    /**
+     * Dirty area of each view to invalidate, {@code null} stands for the whole view.
+     */
+    private final List<Rect> dirtyAreasToInvalidate = new ArrayList<>();
+
+    private boolean isFrameCallbackPosted;
+    private boolean isTicking;
+    private boolean isReleased;
+
+    private final Choreographer.FrameCallback frameCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            isFrameCallbackPosted = false;
+            tick(frameTimeNanos);
+        }
+    };
+
+    public static void initialize() {
+        instance = new FrameAnimationClock();
+    }
+
+    public static FrameAnimationClock getInstance() {
+        return instance;
+    }
+
+    /**
+     * Cancels all running animations and drops the clock. Animations created for the
+     * released clock are never started again.
+     */
+    public static void release() {
+        if (instance != null) {
+            instance.stop();
+            instance = null;
+        }
+    }
+
+    private FrameAnimationClock() {
+    }
+
+    /**
+     * Invalidates {@code view} once the current pass is over, or right away when the clock isn't ticking.
+     */
+    public void invalidate(View view) {
+        invalidate(view, null);
+    }
+
+    /**
+     * The same as {@link #invalidate(View)} but only {@code dirtyArea} of the view is invalidated.
+     * When different areas of the same view are invalidated during the pass, the whole view is invalidated.
+     */
+    public void invalidate(View view, Rect dirtyArea) {
+        if (!isTicking) {
+            invalidateNow(view, dirtyArea);
+            return;
+        }
+        final int viewIndex = viewsToInvalidate.indexOf(view);
+        if (viewIndex == -1) {
+            viewsToInvalidate.add(view);
+            dirtyAreasToInvalidate.add(dirtyArea);
+        } else if (dirtyAreasToInvalidate.get(viewIndex) != dirtyArea) {
+            dirtyAreasToInvalidate.set(viewIndex, null);
+        }
+    }
+
+    private static void invalidateNow(View view, Rect dirtyArea) {
+        if (dirtyArea != null) {
+            view.invalidate(dirtyArea);
+        } else {
+            view.invalidate();
+        }
+    }
+
+    void start(FrameAnimation animation) {
+        if (isReleased) {
+            animation.cancel();
+            return;
+        }
+        if (!activeAnimations.contains(animation)) {
+            activeAnimations.add(animation);
+        }
+        if (!isFrameCallbackPosted) {
+            isFrameCallbackPosted = true;
+            Choreographer.getInstance().postFrameCallback(frameCallback);
+        }
+    }
+
+    private void stop() {
+        isReleased = true;
+        if (isFrameCallbackPosted) {
+            isFrameCallbackPosted = false;
+            Choreographer.getInstance().removeFrameCallback(frameCallback);
+        }
+        for (int i = 0; i < activeAnimations.size(); i++) {
+            activeAnimations.get(i).cancel();
+        }
+        activeAnimations.clear();
+        viewsToInvalidate.clear();
+        dirtyAreasToInvalidate.clear();
+    }
+
+    private void tick(long frameTimeNanos) {
+        isTicking = true;
+        // animations started by listeners during the pass are appended and advanced in the same pass
+        for (int i = 0; i < activeAnimations.size(); i++) {
+            final FrameAnimation animation = activeAnimations.get(i);
+            if (animation.isRunning()) {
+                animation.doFrame(frameTimeNanos);
+            }
+        }
+        isTicking = false;
+
+        for (int i = activeAnimations.size() - 1; i >= 0; i--) {
+            if (!activeAnimations.get(i).isRunning()) {
+                activeAnimations.remove(i);
+            }
+        }
+
+        for (int i = 0; i < viewsToInvalidate.size(); i++) {
+            invalidateNow(viewsToInvalidate.get(i), dirtyAreasToInvalidate.get(i));
+        }
+        viewsToInvalidate.clear();
+        dirtyAreasToInvalidate.clear();
+
+        if (!activeAnimations.isEmpty() && !isFrameCallbackPosted) {
+            isFrameCallbackPosted = true;
+            Choreographer.getInstance().postFrameCallback(frameCallback);
+        }
+    }
+
+}
@@ -6,8 +6,11 @@ import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 
+import com.bumptech.glide.Priority;
 import com.magicepg.R;
+import com.magicepg.coversflow.layout.CoversFlowLayoutManager;
 import com.magicepg.coversflow.widget.CoverView;
+import com.magicepg.image.ImageLoadingScheduler;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,6 +26,8 @@ public final class CoversFlowAdapter extends RecyclerView.Adapter<CoversFlowAdap
     private final ICoverClickListener coverClickListener;
     private final CoverView.OnPlayButtonClickListener coverPlayButtonClickListener;
 
+    private RecyclerView attachedRecyclerView;
+
     public interface ICoverClickListener {
         void onCoverClick(CoverView coverView, CoverEntity coverEntity);
     }
@@ -42,16 +47,54 @@ public final class CoversFlowAdapter extends RecyclerView.Adapter<CoversFlowAdap
         notifyDataSetChanged();
     }
 
+    @Override
+    public void onAttachedToRecyclerView(RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        attachedRecyclerView = recyclerView;
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(RecyclerView recyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView);
+        attachedRecyclerView = null;
+    }
+
     @Override
     public CoverViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
         final CoverView coverView = (CoverView) inflater.inflate(R.layout.cover_item_layout, parent, false);
-        coverView.setDefaultSize(parent.getHeight());
         return new CoverViewHolder(coverView, coverClickListener, coverPlayButtonClickListener);
     }
 
     @Override
     public void onBindViewHolder(CoverViewHolder holder, int position) {
-        holder.bind(getItemForPosition(position));
+        final Priority coverLoadingPriority =
+                ImageLoadingScheduler.getInstance().computeLoadingPriority(isSelectedPosition(position));
+        holder.bind(getItemForPosition(position), coverLoadingPriority);
+    }
+
+    @Override
+    public void onViewAttachedToWindow(CoverViewHolder holder) {
+        super.onViewAttachedToWindow(holder);
+        final int position = holder.getAdapterPosition();
+        if (position != RecyclerView.NO_POSITION) {
+            holder.upgradeCoverLoadingPriority(
+                    ImageLoadingScheduler.getInstance().computeLoadingPriority(isSelectedPosition(position))
+            );
+        }
+    }
+
+    /**
+     * Cover's image loading is cancelled for recycled views.
+     */
+    @Override
+    public void onViewRecycled(CoverViewHolder holder) {
+        super.onViewRecycled(holder);
+        holder.unbind();
+    }
+
+    private boolean isSelectedPosition(int position) {
+        return attachedRecyclerView != null
+                && ((CoversFlowLayoutManager) attachedRecyclerView.getLayoutManager()).getSelectedCoverPosition() == position;
     }
 
     @Override
@@ -78,8 +121,8 @@ public final class CoversFlowAdapter extends RecyclerView.Adapter<CoversFlowAdap
             this.coverPlayButtonClickListener = coverPlayButtonClickListener;
         }
 
-        void bind(final CoverEntity entityToBind) {
-            coverView.bind(entityToBind);
+        void bind(final CoverEntity entityToBind, Priority coverLoadingPriority) {
+            coverView.bind(entityToBind, coverLoadingPriority);
             coverView.setOnClickListener(new View.OnClickListener() {
                 @Override
                 public void onClick(View coverView) {
@@ -88,6 +131,14 @@ public final class CoversFlowAdapter extends RecyclerView.Adapter<CoversFlowAdap
             });
             coverView.setOnPlayButtonClickListener(coverPlayButtonClickListener);
         }
+
+        void upgradeCoverLoadingPriority(Priority coverLoadingPriority) {
+            coverView.upgradeCoverLoadingPriority(coverLoadingPriority);
+        }
+
+        void unbind() {
+            coverView.unbind();
+        }
     }
 
 }
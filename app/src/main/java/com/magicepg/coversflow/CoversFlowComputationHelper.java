@@ -1,12 +1,8 @@
 package com.magicepg.coversflow;
 
-import android.animation.Animator;
-import android.animation.ObjectAnimator;
 import android.graphics.PointF;
 import android.graphics.Rect;
-import android.view.View;
 import android.view.ViewGroup;
-import android.view.animation.AccelerateDecelerateInterpolator;
 
 import com.magicepg.wheel.WheelComputationHelper;
 import entity.CoordinatesHolder;
@@ -38,13 +34,6 @@ public final class CoversFlowComputationHelper {
     private final int leftOffset;
     private final int rightOffset;
 
-    public static Animator createAlphaAnimatorBetweenValues(View targetView, float startAlphaValue, float endAlphaValue) {
-        final ObjectAnimator alphaAnimator = ObjectAnimator.ofFloat(targetView, View.ALPHA, startAlphaValue, endAlphaValue);
-        alphaAnimator.setInterpolator(new AccelerateDecelerateInterpolator());
-        alphaAnimator.setDuration(ALPHA_ANIMATION_DURATION);
-        return alphaAnimator;
-    }
-
     public static void initialize(WheelComputationHelper computationHelper) {
         instance = new CoversFlowComputationHelper(computationHelper);
     }
@@ -0,0 +1,223 @@
+package com.magicepg.coversflow.layout;
+
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.magicepg.coversflow.CoversFlowComputationHelper;
+import com.magicepg.coversflow.widget.CoverView;
+
+import java.util.List;
+
+/**
+ * Lays out covers in a horizontal stripe and zooms them in the same pass: each cover's
+ * displayed width is computed from its distance to the resizing edge
+ * ({@link CoversFlowComputationHelper#getResizingEdgePosition()}).
+ * <p>
+ * All covers are laid out with default size in place they would take if none of them was zoomed -
+ * so scroll offset maps to covers linearly: cover at {@code position} is fully selected (displayed
+ * with max size, centered on resizing edge) when scroll offset equals {@code position * coversPitch}.
+ * Zoomed sizes and shifts caused by them are applied as transformations
+ * (see {@link CoverView#setDisplayedWidth(float, float)}).
+ *
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+public class CoversFlowLayoutManager extends RecyclerView.LayoutManager {
+
+    private final CoversFlowComputationHelper coversFlowMeasurements;
+    private final int horizontalSpacingValue;
+    private final OnCoverResizedListener coverResizedListener;
+
+    /**
+     * Distance between left edges of two neighbour covers displayed with default size.
+     */
+    private final int coversPitch;
+
+    private int scrollOffset;
+    private int lastScrollDelta;
+
+    public CoversFlowLayoutManager(int horizontalSpacingValue, OnCoverResizedListener coverResizedListener) {
+        this.coversFlowMeasurements = CoversFlowComputationHelper.getInstance();
+        this.horizontalSpacingValue = horizontalSpacingValue;
+        this.coverResizedListener = coverResizedListener;
+        this.coversPitch = coversFlowMeasurements.getCoverDefaultWidth() + horizontalSpacingValue;
+    }
+
+    @Override
+    public RecyclerView.LayoutParams generateDefaultLayoutParams() {
+        return new RecyclerView.LayoutParams(
+                ViewGroup.LayoutParams.WRAP_CONTENT,
+                ViewGroup.LayoutParams.WRAP_CONTENT
+        );
+    }
+
+    @Override
+    public boolean canScrollHorizontally() {
+        return true;
+    }
+
+    @Override
+    public void onLayoutChildren(RecyclerView.Recycler recycler, RecyclerView.State state) {
+        if (state.getItemCount() == 0) {
+            removeAndRecycleAllViews(recycler);
+            scrollOffset = 0;
+            return;
+        }
+
+        scrollOffset = clampScrollOffset(scrollOffset, state.getItemCount());
+        layoutCovers(recycler, state);
+    }
+
+    @Override
+    public int scrollHorizontallyBy(int dx, RecyclerView.Recycler recycler, RecyclerView.State state) {
+        if (getChildCount() == 0) {
+            return 0;
+        }
+
+        final int scrolledBy = clampScrollOffset(scrollOffset + dx, state.getItemCount()) - scrollOffset;
+        scrollOffset += scrolledBy;
+        lastScrollDelta = scrolledBy;
+
+        layoutCovers(recycler, state);
+        return scrolledBy;
+    }
+
+    @Override
+    public void scrollToPosition(int position) {
+        scrollOffset = Math.max(0, position * coversPitch);
+        lastScrollDelta = 0;
+        requestLayout();
+    }
+
+    @Override
+    public void smoothScrollToPosition(RecyclerView recyclerView, RecyclerView.State state, int position) {
+        recyclerView.smoothScrollBy(computeScrollDistanceToCover(position), 0);
+    }
+
+    /**
+     * Cover which is the closest one to be fully selected at the current scroll offset.
+     */
+    public int getSelectedCoverPosition() {
+        return Math.round((float) scrollOffset / coversPitch);
+    }
+
+    /**
+     * Returns distance to scroll by to fully select cover at {@code position}.
+     */
+    public int computeScrollDistanceToCover(int position) {
+        return clampScrollOffset(position * coversPitch, getItemCount()) - scrollOffset;
+    }
+
+    /**
+     * Fling's resting point is snapped to the cover which is the closest one to be fully
+     * selected there - so fling gesture ends exactly with selected cover.
+     *
+     * @param flingDistance distance which unrestricted fling would travel
+     * @return distance to scroll by to finish fling with fully selected cover
+     */
+    public int computeSnappedFlingDistance(double flingDistance) {
+        final int coverPositionToSelect = (int) Math.round((scrollOffset + flingDistance) / coversPitch);
+        return computeScrollDistanceToCover(coverPositionToSelect);
+    }
+
+    /**
+     * Sign of this value tells direction of the last scroll step - and so of the current swipe.
+     */
+    public int getLastScrollDelta() {
+        return lastScrollDelta;
+    }
+
+    private int clampScrollOffset(int offset, int itemCount) {
+        final int maxScrollOffset = Math.max(0, (itemCount - 1) * coversPitch);
+        return Math.max(0, Math.min(maxScrollOffset, offset));
+    }
+
+    /**
+     * Left edge of the cover's default size box in place it would take if none of covers was zoomed.
+     */
+    private float getCoverLayoutLeft(int position) {
+        return coversFlowMeasurements.getLeftOffset() + position * coversPitch - scrollOffset;
+    }
+
+    private void layoutCovers(RecyclerView.Recycler recycler, RecyclerView.State state) {
+        detachAndScrapAttachedViews(recycler);
+
+        final int coverMaxWidth = coversFlowMeasurements.getCoverMaxWidth();
+        final int maxCoverHalfWidth = coverMaxWidth / 2;
+
+        final int coverDefaultWidth = coversFlowMeasurements.getCoverDefaultWidth();
+        final int coverDefaultHeight = coversFlowMeasurements.getCoverDefaultHeight();
+        final int coverTop = (getHeight() - coverDefaultHeight) / 2;
+
+        final float resizingEdgePos = coversFlowMeasurements.getResizingEdgePosition();
+
+        // only a cover which starts in resizing area might be zoomed - so all covers to the left
+        // of the first visible one are displayed with default size and don't shift anything
+        int position = Math.max(0, (int) Math.floor(
+                (float) (scrollOffset - coversFlowMeasurements.getLeftOffset() - coverDefaultWidth) / coversPitch
+        ));
+        float startX = getCoverLayoutLeft(position);
+
+        while (position < state.getItemCount() && startX < getWidth()) {
+            final CoverView coverView = (CoverView) recycler.getViewForPosition(position);
+            addView(coverView);
+
+            final int coverLeft = Math.round(getCoverLayoutLeft(position));
+            coverView.measure(
+                    View.MeasureSpec.makeMeasureSpec(coverDefaultWidth, View.MeasureSpec.EXACTLY),
+                    View.MeasureSpec.makeMeasureSpec(coverDefaultHeight, View.MeasureSpec.EXACTLY)
+            );
+            layoutDecorated(coverView, coverLeft, coverTop, coverLeft + coverDefaultWidth, coverTop + coverDefaultHeight);
+
+            // shift by extra width of previous covers
+            final float coverTranslationX = startX - coverLeft;
+
+            // cover fit in resizing area - wrapper fake view (with coverMaxWidth) intersect with resizing edge
+            if (startX < resizingEdgePos && startX + coverMaxWidth >= resizingEdgePos) {
+                final float maxCoverCenterPos = startX + maxCoverHalfWidth;
+                final float centerShiftDelta = resizingEdgePos - maxCoverCenterPos;
+
+                // changed from [0; 1]
+                // 0 - when cover center placed directly on resizingEdge should be coverMaxWidth
+                // 1 - when resizing edge close_icon to cover left or right edge - should be defaultCoverWidth
+                final float centerShiftDeltaCoefficient = Math.abs(centerShiftDelta) / maxCoverHalfWidth;
+                final float currentCoverWidth = coverMaxWidth * (1 - centerShiftDeltaCoefficient)
+                        + coverDefaultWidth * centerShiftDeltaCoefficient;
+
+                coverView.setDisplayedWidth(currentCoverWidth, coverTranslationX);
+                coverResizedListener.onCoverZoomed(coverView, centerShiftDelta, 1 - centerShiftDeltaCoefficient);
+                startX += currentCoverWidth + horizontalSpacingValue;
+            } else {
+                coverView.setDisplayedWidth(coverDefaultWidth, coverTranslationX);
+                coverView.updateScalingData(0, CoverView.CoverScalingData.ScalingType.NotDefined);
+                startX += coverDefaultWidth + horizontalSpacingValue;
+            }
+
+            position++;
+        }
+
+        recycleUnusedScrap(recycler);
+    }
+
+    private static void recycleUnusedScrap(RecyclerView.Recycler recycler) {
+        final List<RecyclerView.ViewHolder> scrapList = recycler.getScrapList();
+        for (int i = scrapList.size() - 1; i >= 0; i--) {
+            recycler.recycleView(scrapList.get(i).itemView);
+        }
+    }
+
+    public interface OnCoverResizedListener {
+        /**
+         * @param coverCenterResizingEdgeRelativeShiftDelta -
+         *                                                  {@code > 0} when resizing edge position placed after max cover center position
+         * @param coverViewScalingFactor                    - range of changes [0; 1]
+         *                                                  </p> {@code 0} - when cover view scaled to default size
+         *                                                  </p> {@code 1} - when cover view scaled to max size
+         */
+        void onCoverZoomed(CoverView coverView,
+                           float coverCenterResizingEdgeRelativeShiftDelta,
+                           float coverViewScalingFactor);
+    }
+
+}
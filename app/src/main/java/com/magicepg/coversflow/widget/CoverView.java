@@ -3,16 +3,21 @@ package com.magicepg.coversflow.widget;
 import android.content.Context;
 import android.net.Uri;
 import android.util.AttributeSet;
+import android.view.Gravity;
 import android.view.View;
 import android.widget.FrameLayout;
 import android.widget.ImageView;
 import android.widget.TextView;
 
-import com.bumptech.glide.Glide;
+import com.bumptech.glide.DrawableRequestBuilder;
+import com.bumptech.glide.Priority;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.load.engine.DiskCacheStrategy;
 import com.magicepg.R;
 import com.magicepg.coversflow.CoverEntity;
 import com.magicepg.coversflow.CoversFlowComputationHelper;
 import com.magicepg.func.Optional;
+import com.magicepg.image.ImageLoadingScheduler;
 
 import java.util.List;
 
@@ -22,6 +27,9 @@ import butterknife.OnClick;
 
 
 /**
+ * Cover's image is decoded once - at max size - and is displayed as is for any cover's size,
+ * since covers are resized by scaling. Low resolution thumbnail is displayed until it's decoded.
+ *
  * @author Alexey Kovalev
  * @since 23.02.2016.
  */
@@ -30,6 +38,8 @@ public final class CoverView extends FrameLayout {
     private static final float FULLY_TRANSPARENT = 0.0f;
     private static final float FULLY_OPAQUE = 1.0f;
 
+    private static final float COVER_IMAGE_THUMBNAIL_SIZE_MULTIPLIER = 0.25f;
+
     @Bind(R.id.cover_image)
     ImageView coverImageView;
 
@@ -50,6 +60,16 @@ public final class CoverView extends FrameLayout {
     })
     List<View> mainContentViews;
 
+    /**
+     * Titles and play button keep their natural size while cover is scaled.
+     */
+    @Bind({
+            R.id.asset_play_button,
+            R.id.asset_main_content_info_container,
+            R.id.cover_helper_title
+    })
+    List<View> naturalSizeContentViews;
+
     @Bind({
             R.id.cover_helper_title
     })
@@ -63,7 +83,9 @@ public final class CoverView extends FrameLayout {
     }
 
     private final CoversFlowComputationHelper assetsComputationHelper;
+    private final ImageLoadingScheduler imageLoadingScheduler;
     private CoverEntity entityToBind;
+    private Priority coverLoadingPriority;
     private OnPlayButtonClickListener onPlayButtonClickListener;
     private final CoverScalingData coverScalingData = new CoverScalingData();
 
@@ -78,6 +100,7 @@ public final class CoverView extends FrameLayout {
     public CoverView(Context context, AttributeSet attrs, int defStyleAttr) {
         super(context, attrs, defStyleAttr);
         assetsComputationHelper = CoversFlowComputationHelper.getInstance();
+        imageLoadingScheduler = ImageLoadingScheduler.getInstance();
         inflateAndBind(context);
     }
 
@@ -95,42 +118,111 @@ public final class CoverView extends FrameLayout {
     }
 
     /**
-     * Hook invoked when cover has been selected (resized to MAX size)
-     * in covers flow.
+     * @param coverLoadingPriority priority of cover's image request
      */
-    public void onCoverSelected() {
-        final Optional<Uri> coverImageUriWrapper = entityToBind.getCoverImageUri();
-        if (coverImageUriWrapper.isPresent()) {
-            final int coverMaxWidth = assetsComputationHelper.getCoverMaxWidth();
-            final int coverMaxHeight = assetsComputationHelper.getCoverMaxHeight();
-            Glide.with(getContext())
-                    .load(coverImageUriWrapper.get())
-                    .override(coverMaxWidth, coverMaxHeight)
-                    .centerCrop()
-                    .into(coverImageView);
-        }
-    }
-
-    public void bind(CoverEntity entityToBind) {
+    public void bind(CoverEntity entityToBind, Priority coverLoadingPriority) {
         this.entityToBind = entityToBind;
         coverMainTitleView.setText(entityToBind.getTitle());
         coverHelperTitle.setText(entityToBind.getTitle());
         assetInfoLineView.setText("Additional Info Line");
-        loadCoverImageForWidthSize(entityToBind);
+        scheduleCoverImageLoading(entityToBind, coverLoadingPriority);
     }
 
-    public void setDefaultSize(int containerHeight) {
-        setCoverViewSize(containerHeight,
-                assetsComputationHelper.getCoverDefaultWidth(),
-                assetsComputationHelper.getCoverDefaultHeight()
-        );
+    /**
+     * Raises priority of cover's image request which is held back by fast scrolling - e.g. cover
+     * has become selected. Started request keeps its bind-time priority: re-issuing it would cancel
+     * decoding in progress and start it over. Lower priority is ignored.
+     */
+    public void upgradeCoverLoadingPriority(Priority priority) {
+        final boolean isImageLoadPending = entityToBind != null && imageLoadingScheduler.isLoadPending(coverImageView);
+        if (isImageLoadPending && priority.ordinal() < coverLoadingPriority.ordinal()) {
+            scheduleCoverImageLoading(entityToBind, priority);
+        }
+    }
+
+    /**
+     * Cancels image's loading of recycled cover, so it's neither decoded nor started after fast scrolling.
+     */
+    public void unbind() {
+        imageLoadingScheduler.cancel(coverImageView);
+    }
+
+    /**
+     * Displays cover with {@code coverWidth} (and proportional height) without relayout - cover stays
+     * laid out with default size and is scaled around its left edge's middle point, then shifted by
+     * {@code coverTranslationX}. So resizing covers on scrolling requires only redrawing.
+     * <p>
+     * Titles and play button are counter-scaled, so they look the same as in cover laid out
+     * with displayed size.
+     */
+    public void setDisplayedWidth(float coverWidth, float coverTranslationX) {
+        final float coverScale = coverWidth / assetsComputationHelper.getCoverDefaultWidth();
+        setPivotX(0);
+        setPivotY(assetsComputationHelper.getCoverDefaultHeight() / 2f);
+        setScaleX(coverScale);
+        setScaleY(coverScale);
+        setTranslationX(coverTranslationX);
+
+        for (View contentView : naturalSizeContentViews) {
+            counterScaleContentView(contentView, coverScale);
+        }
     }
 
-    public void setCoverViewSize(float containerHeight, int coverViewNewWidth, int coverViewNewHeight) {
-        final MarginLayoutParams lp = (MarginLayoutParams) getLayoutParams();
-        lp.height = coverViewNewHeight;
-        lp.width = coverViewNewWidth;
-        lp.topMargin = (int) (containerHeight / 2 - (float) lp.height / 2);
+    /**
+     * Content view is anchored by its layout gravity - e.g. bottom left corner of view aligned
+     * to bottom left of cover keeps its distance to cover's bottom left corner. View is scaled back
+     * around its anchor and moved to where the anchor is in cover laid out with displayed size.
+     */
+    private void counterScaleContentView(View contentView, float coverScale) {
+        final int coverWidth = getWidth();
+        final int coverHeight = getHeight();
+        final int gravity = Gravity.getAbsoluteGravity(
+                ((LayoutParams) contentView.getLayoutParams()).gravity, getLayoutDirection()
+        );
+
+        final float anchorX;
+        final float displayedAnchorX;
+        switch (gravity & Gravity.HORIZONTAL_GRAVITY_MASK) {
+            case Gravity.CENTER_HORIZONTAL:
+                anchorX = (contentView.getLeft() + contentView.getRight()) / 2f;
+                displayedAnchorX = coverScale * anchorX;
+                break;
+            case Gravity.RIGHT:
+                anchorX = contentView.getRight();
+                displayedAnchorX = coverScale * coverWidth - (coverWidth - anchorX);
+                break;
+            default:
+                anchorX = contentView.getLeft();
+                displayedAnchorX = anchorX;
+                break;
+        }
+
+        // cover's vertical center stays in place while it's scaled
+        final float coverCenterY = coverHeight / 2f;
+        final float anchorY;
+        final float displayedAnchorY;
+        switch (gravity & Gravity.VERTICAL_GRAVITY_MASK) {
+            case Gravity.CENTER_VERTICAL:
+                anchorY = (contentView.getTop() + contentView.getBottom()) / 2f;
+                displayedAnchorY = coverCenterY + coverScale * (anchorY - coverCenterY);
+                break;
+            case Gravity.BOTTOM:
+                anchorY = contentView.getBottom();
+                displayedAnchorY = coverCenterY + coverScale * coverCenterY - (coverHeight - anchorY);
+                break;
+            default:
+                anchorY = contentView.getTop();
+                displayedAnchorY = coverCenterY - coverScale * coverCenterY + anchorY;
+                break;
+        }
+
+        contentView.setPivotX(anchorX - contentView.getLeft());
+        contentView.setPivotY(anchorY - contentView.getTop());
+        contentView.setScaleX(1 / coverScale);
+        contentView.setScaleY(1 / coverScale);
+        // translations are scaled by cover's scale as well
+        contentView.setTranslationX(displayedAnchorX / coverScale - anchorX);
+        contentView.setTranslationY(coverCenterY + (displayedAnchorY - coverCenterY) / coverScale - anchorY);
     }
 
     public void updateScalingData(float scalingFactor, CoverScalingData.ScalingType scalingType) {
@@ -165,27 +257,71 @@ public final class CoverView extends FrameLayout {
         }
     }
 
+    /**
+     * Transparent views are made invisible rather than gone - so scrolling doesn't trigger relayout.
+     */
     private void setAlphaForContentContainer(List<View> contentContainer, float alphaValueToSet) {
-        final int coverVisibility = alphaValueToSet == 0.0f ? GONE : VISIBLE;
+        final int coverVisibility = alphaValueToSet == 0.0f ? INVISIBLE : VISIBLE;
         for (View view : contentContainer) {
             view.setVisibility(coverVisibility);
             view.setAlpha(alphaValueToSet);
         }
     }
 
-    private void loadCoverImageForWidthSize(CoverEntity coverEntity) {
+    private void scheduleCoverImageLoading(final CoverEntity coverEntity, final Priority coverLoadingPriority) {
+        this.coverLoadingPriority = coverLoadingPriority;
+        imageLoadingScheduler.load(coverImageView, new Runnable() {
+            @Override
+            public void run() {
+                loadCoverImage(coverEntity, coverLoadingPriority);
+            }
+        });
+    }
+
+    private void loadCoverImage(CoverEntity coverEntity, Priority coverLoadingPriority) {
         final Optional<Uri> coverImageUrlWrapper = coverEntity.getCoverImageUri();
         if (coverImageUrlWrapper.isPresent()) {
-            final int coverImageWidth = assetsComputationHelper.getCoverDefaultWidth();
-            final int coverImageHeight = assetsComputationHelper.getCoverDefaultHeight();
-            Glide.with(getContext())
-                    .load(coverEntity.getCoverImageUri().get())
-                    .override(coverImageWidth, coverImageHeight)
-                    .centerCrop()
+            createCoverImageRequest(imageLoadingScheduler.getRequestManager(), coverImageUrlWrapper.get())
+                    .override(assetsComputationHelper.getCoverMaxWidth(), assetsComputationHelper.getCoverMaxHeight())
+                    .thumbnail(COVER_IMAGE_THUMBNAIL_SIZE_MULTIPLIER)
+                    .priority(coverLoadingPriority)
                     .into(coverImageView);
         }
     }
 
+    /**
+     * Cover image is requested at max size for any cover's size - so selecting a cover
+     * needs neither loading nor decoding. Covers are local resources, so only decoded
+     * results are cached on disk - copying sources there would only cost extra writes.
+     */
+    private static DrawableRequestBuilder<Uri> createCoverImageRequest(RequestManager requestManager, Uri coverImageUri) {
+        return requestManager
+                .load(coverImageUri)
+                .diskCacheStrategy(DiskCacheStrategy.RESULT)
+                .centerCrop();
+    }
+
+    /**
+     * Loads cover images into Glide's memory cache with exactly the same request
+     * parameters as {@link #bind(CoverEntity, Priority)} does - so that binding is served from cache.
+     * Preloading never outruns images of displayed covers, and isn't held back by fast scrolling -
+     * so covers around predicted landing position are ready once the flow stops.
+     */
+    public static void preloadCoverImages(List<CoverEntity> coverEntities) {
+        final RequestManager requestManager = ImageLoadingScheduler.getInstance().getRequestManager();
+        final CoversFlowComputationHelper computationHelper = CoversFlowComputationHelper.getInstance();
+        final int coverImageWidth = computationHelper.getCoverMaxWidth();
+        final int coverImageHeight = computationHelper.getCoverMaxHeight();
+        for (CoverEntity coverEntity : coverEntities) {
+            final Optional<Uri> coverImageUrlWrapper = coverEntity.getCoverImageUri();
+            if (coverImageUrlWrapper.isPresent()) {
+                createCoverImageRequest(requestManager, coverImageUrlWrapper.get())
+                        .priority(Priority.LOW)
+                        .preload(coverImageWidth, coverImageHeight);
+            }
+        }
+    }
+
     public static final class CoverScalingData {
 
         static float HALF_SCALING_COEF = 1f / 2;
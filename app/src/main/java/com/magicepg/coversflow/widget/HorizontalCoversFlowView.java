@@ -1,22 +1,19 @@
 package com.magicepg.coversflow.widget;
 
-import android.animation.Animator;
-import android.animation.AnimatorSet;
-import android.animation.ObjectAnimator;
-import android.animation.TimeInterpolator;
 import android.content.Context;
-import android.graphics.Rect;
-import android.support.v7.widget.LinearLayoutManager;
 import android.support.v7.widget.RecyclerView;
 import android.util.AttributeSet;
-import android.view.View;
-import android.view.animation.AccelerateDecelerateInterpolator;
 
+import com.bumptech.glide.Priority;
+import com.magicepg.animation.FrameAnimation;
 import com.magicepg.coversflow.CoverEntity;
 import com.magicepg.coversflow.CoversFlowAdapter;
 import com.magicepg.coversflow.CoversFlowComputationHelper;
+import com.magicepg.coversflow.layout.CoversFlowLayoutManager;
 import com.magicepg.func.Preconditions;
+import com.magicepg.image.ImageLoadingScheduler;
 import com.magicepg.util.DimensionUtils;
+import com.magicepg.util.FlingUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -55,24 +52,37 @@ public final class HorizontalCoversFlowView extends RecyclerView {
         }
     }
 
-    private class CoverZoomingScrollListener extends OnScrollListener {
+    /**
+     * Flings and taps finish with fully selected cover, which only has to be reported. Covers
+     * flow released without any velocity isn't flung - it's snapped right away, at release,
+     * and selected cover is reported once snapping is over.
+     */
+    private class CoverSelectionScrollListener extends OnScrollListener {
         @Override
         public void onScrollStateChanged(RecyclerView recyclerView, int newState) {
-            if (!isCoversFlowViewInScrollingState()) {
-                scrollToFullySelectCover();
+            if (newState == SCROLL_STATE_IDLE && snapToCoverBy(0)) {
+                return;
             }
-        }
-
-        @Override
-        public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
-            updateScrollingState(dx);
-            resizeCovers();
+            notifyOnCoverSelectedIfNeeded();
         }
     }
 
     private final CoversFlowComputationHelper coversFlowMeasurements;
     private final int horizontalSpacingValue;
 
+    /**
+     * Animates visibility value from 0 (hidden) to 1 (fully displayed).
+     */
+    private final FrameAnimation visibilityAnimation = new FrameAnimation()
+            .setDuration(SCALING_ANIMATION_DURATION)
+            .setFloatValues(1.0f, 1.0f)
+            .addListener(new FrameAnimation.ListenerAdapter() {
+                @Override
+                public void onAnimationUpdate(FrameAnimation animation) {
+                    applyVisibility(animation.getAnimatedValue());
+                }
+            });
+
     private CoverEntity lastlyClickedCoverEntity;
 
     private SwipeGestureType swipeGestureType;
@@ -106,13 +116,19 @@ public final class HorizontalCoversFlowView extends RecyclerView {
     }
 
     private void init(Context context) {
-        setLayoutManager(new LinearLayoutManager(context, LinearLayoutManager.HORIZONTAL, false) {
+        setLayoutManager(new CoversFlowLayoutManager(horizontalSpacingValue, new CoversFlowLayoutManager.OnCoverResizedListener() {
+            @Override
+            public void onCoverZoomed(CoverView coverView, float coverCenterResizingEdgeRelativeShiftDelta, float coverViewScalingFactor) {
+                updateScrollingState(getLayoutManager().getLastScrollDelta());
+                updateCoverScalingData(coverView, coverCenterResizingEdgeRelativeShiftDelta, coverViewScalingFactor);
+            }
+        }) {
             @Override
             public void onLayoutChildren(Recycler recycler, State state) {
                 super.onLayoutChildren(recycler, state);
-                // when we swap data in adapter we should select default cover and make it big
+                // when we swap data in adapter default cover is already selected - it has to be reported
                 if (isAdapterDataSetChanged) {
-                    scrollToFullySelectCover();
+                    notifyOnCoverSelectedIfNeeded();
                     isAdapterDataSetChanged = false;
                 }
             }
@@ -136,10 +152,10 @@ public final class HorizontalCoversFlowView extends RecyclerView {
             }
         });
 
-        addOnScrollListener(new CoverZoomingScrollListener());
+        addOnScrollListener(new CoverSelectionScrollListener());
+        ImageLoadingScheduler.getInstance().attachTo(this);
 
 //        drawResizingEdgeInDebug();
-        setupCoversHorizontalSpacing(horizontalSpacingValue);
     }
 
     public void addCoverSelectionListener(OnCoverSelectionListener coverSelectedListener) {
@@ -159,39 +175,18 @@ public final class HorizontalCoversFlowView extends RecyclerView {
         addItemDecoration(new CoversFlowResizingEdgeItemDecoration(coversFlowMeasurements.getResizingEdgePosition()));
     }
 
-    private void setupCoversHorizontalSpacing(final int horizontalSpacingValue) {
-        addItemDecoration(new ItemDecoration() {
-            @Override
-            public void getItemOffsets(Rect outRect, View view, RecyclerView parent, State state) {
-                // TODO: 16.03.2016 extract to MeasurementsHolder
-                final int leftOffsetValue = CoversFlowComputationHelper.getInstance().getLeftOffset();
-                final int rightOffsetValue = CoversFlowComputationHelper.getInstance().getRightOffset();
-
-                final int coverAdapterPosition = parent.getChildAdapterPosition(view);
-                final boolean isFirstCover = coverAdapterPosition == 0;
-                final boolean isLastCover = coverAdapterPosition == (parent.getAdapter().getItemCount() - 1);
-
-                if (isFirstCover) {
-                    outRect.set(leftOffsetValue, 0, horizontalSpacingValue, 0);
-                } else if (isLastCover) {
-                    outRect.set(0, 0, rightOffsetValue, 0);
-                } else {
-                    outRect.set(0, 0, horizontalSpacingValue, 0);
-                }
-            }
-        });
-    }
-
     private boolean isCoversFlowViewInScrollingState() {
         return getScrollState() != RecyclerView.SCROLL_STATE_IDLE;
     }
 
     private void notifyOnCoverSelectedIfNeeded() {
         if (!isCoversFlowViewInScrollingState()) {
-            final CoverView intersectingCoverView = findCoverIntersectingWithResizingEdge();
-            if (intersectingCoverView != null) {
-                lastlyClickedCoverEntity = intersectingCoverView.getAssociatedData();
-                intersectingCoverView.onCoverSelected();
+            final ViewHolder selectedCoverViewHolder =
+                    findViewHolderForAdapterPosition(getLayoutManager().getSelectedCoverPosition());
+            if (selectedCoverViewHolder != null) {
+                final CoverView selectedCoverView = (CoverView) selectedCoverViewHolder.itemView;
+                selectedCoverView.upgradeCoverLoadingPriority(Priority.IMMEDIATE);
+                lastlyClickedCoverEntity = selectedCoverView.getAssociatedData();
             }
             if (lastlyClickedCoverEntity != null) {
                 for (OnCoverSelectionListener selectedListener : coverSelectedListeners) {
@@ -223,105 +218,30 @@ public final class HorizontalCoversFlowView extends RecyclerView {
     }
 
     public void displayWithScaleUpAnimation() {
-        playTogetherAnimations(
-                createScalingAnimatorBetweenValues(0.0f, 1.0f),
-                CoversFlowComputationHelper.createAlphaAnimatorBetweenValues(this, 0.0f, 1.0f)
-        );
+        animateVisibilityTo(1.0f);
     }
 
-    // TODO: WheelOfFortune 29.02.2016 does not work properly because when we call this method displayWithScaleUpAnimation() invoked
-    // TODO: WheelOfFortune 29.02.2016 immediately and interrupts this one
+    /**
+     * Hiding might be interrupted by displaying at any moment - then covers flow
+     * scales up back from its current size.
+     */
     public void hideWithScaleDownAnimation() {
-        playTogetherAnimations(
-                createScalingAnimatorBetweenValues(1.0f, 0.0f),
-                CoversFlowComputationHelper.createAlphaAnimatorBetweenValues(this, 1.0f, 0.0f)
-        );
+        animateVisibilityTo(0.0f);
     }
 
-    private Animator createScalingAnimatorBetweenValues(float startScalingValue, float endScalingValue) {
+    private void animateVisibilityTo(float visibilityValue) {
         setPivotX(getWidth() / 2);
         setPivotY(getHeight() / 2);
-
-        final ObjectAnimator scaleXAnimator = ObjectAnimator.ofFloat(this, View.SCALE_X, startScalingValue, endScalingValue);
-        final ObjectAnimator scaleYAnimator = ObjectAnimator.ofFloat(this, View.SCALE_Y, startScalingValue, endScalingValue);
-
-        final TimeInterpolator interpolator = new AccelerateDecelerateInterpolator();
-        scaleXAnimator.setInterpolator(interpolator);
-        scaleXAnimator.setDuration(SCALING_ANIMATION_DURATION);
-
-        scaleYAnimator.setInterpolator(interpolator);
-        scaleYAnimator.setDuration(SCALING_ANIMATION_DURATION);
-
-        final AnimatorSet scalingAnimator = new AnimatorSet();
-        scalingAnimator.playTogether(scaleXAnimator, scaleYAnimator);
-        return scalingAnimator;
-    }
-
-    private void playTogetherAnimations(Animator... animatorsToPlay) {
-        AnimatorSet combinedAnimators = new AnimatorSet();
-        combinedAnimators.playTogether(animatorsToPlay);
-        combinedAnimators.start();
+        visibilityAnimation.animateTo(visibilityValue);
     }
 
     /**
-     * After scrolling of fling gesture has been done we have to fully select
-     * nearest to the edge cover.
+     * Both scaling and transparency follow the same visibility value.
      */
-    private void scrollToFullySelectCover() {
-        final CoverView coverClosestToResizingEdge = findCoverClosestToResizingEdge();
-        if (coverClosestToResizingEdge != null) {
-            final float edgeLeftPosition = coversFlowMeasurements.getResizingEdgePosition();
-            final float childStartX = coverClosestToResizingEdge.getLeft();
-            final float offset = edgeLeftPosition - childStartX;
-
-            final float scrollBy = coversFlowMeasurements.getCoverMaxWidth() / 2 - offset;
-
-            smoothScrollBy((int) scrollBy, 0);
-        }
-
-        notifyOnCoverSelectedIfNeeded();
-    }
-
-    /**
-     * Either intersecting with resizing edge cover or closest from right to resizing
-     * edge cover.
-     */
-    private CoverView findCoverClosestToResizingEdge() {
-        if (getAdapter().getItemCount() == 0) {
-            return null;
-        }
-
-        final CoverView intersectingCover = findCoverIntersectingWithResizingEdge();
-        if (intersectingCover != null) {
-            return intersectingCover;
-        }
-
-        final float edgeLeftPosition = coversFlowMeasurements.getResizingEdgePosition();
-
-        View closestToEdgeFromLeft = null;
-        int i = 0;
-        while (i < getChildCount() && (closestToEdgeFromLeft = getChildAt(i)).getRight() <= edgeLeftPosition) {
-            i++;
-        }
-
-        return (CoverView) closestToEdgeFromLeft;
-    }
-
-    private CoverView findCoverIntersectingWithResizingEdge() {
-        final float edgeLeftPosition = coversFlowMeasurements.getResizingEdgePosition();
-
-        for (int i = 0; i < getChildCount(); i++) {
-            final View coverView = getChildAt(i);
-            final float coverLeftX = coverView.getLeft();
-            final float coverRightX = coverLeftX + coverView.getWidth();
-
-            final boolean isIntersectingWithResizingEdge = coverLeftX <= edgeLeftPosition && coverRightX >= edgeLeftPosition;
-            if (isIntersectingWithResizingEdge) {
-                return (CoverView) coverView;
-            }
-        }
-
-        return null;
+    private void applyVisibility(float visibilityValue) {
+        setScaleX(visibilityValue);
+        setScaleY(visibilityValue);
+        setAlpha(visibilityValue);
     }
 
     private void selectCoverOnClick(CoverView clickedCoverView, CoverEntity coverEntity) {
@@ -329,39 +249,28 @@ public final class HorizontalCoversFlowView extends RecyclerView {
         if (lastlyClickedCoverEntity == null || !lastlyClickedCoverEntity.equals(coverEntity)) {
             lastlyClickedCoverEntity = coverEntity;
 
-            final float resizingEdgePosition = coversFlowMeasurements.getResizingEdgePosition();
-            final CoverView intersectingCoverView = findCoverIntersectingWithResizingEdge();
-            float extraWidthToCompensate =
-                    intersectingCoverView != null ?
-                            (intersectingCoverView.getWidth() - coversFlowMeasurements.getCoverDefaultWidth()) : 0;
-
-            final boolean isClickedCoverToRightOfResizingEdge = clickedCoverView.getLeft() >= resizingEdgePosition;
-            float scrollByX;
-            if (isClickedCoverToRightOfResizingEdge) {
-                scrollByX = clickedCoverView.getLeft()
-                        - resizingEdgePosition
-                        + coversFlowMeasurements.getCoverMaxWidth() / 2
-                        - extraWidthToCompensate;
-            } else {
-                scrollByX = resizingEdgePosition
-                        - clickedCoverView.getRight()
-                        + coversFlowMeasurements.getCoverMaxWidth() / 2
-                        - extraWidthToCompensate;
-
-                scrollByX = -scrollByX;
-            }
-
-            smoothScrollBy((int) scrollByX, 0);
+            smoothScrollBy(getLayoutManager().computeScrollDistanceToCover(getChildAdapterPosition(clickedCoverView)), 0);
         }
     }
 
     /**
-     * Slows down usual fling gesture for RecyclerView.
+     * Slows down usual fling gesture for RecyclerView and finishes it exactly
+     * with selected cover - as a single smooth scroll.
      */
     @Override
     public boolean fling(int velocityX, int velocityY) {
         velocityX *= FLING_GESTURE_VELOCITY_SCALE_DOWN_FACTOR;
-        return super.fling(velocityX, velocityY);
+        final double flingDistance = FlingUtils.computeSplineFlingDistance(getContext(), velocityX);
+        return snapToCoverBy(flingDistance);
+    }
+
+    private boolean snapToCoverBy(double flingDistance) {
+        final int scrollByX = getLayoutManager().computeSnappedFlingDistance(flingDistance);
+        if (scrollByX == 0) {
+            return false;
+        }
+        smoothScrollBy(scrollByX, 0);
+        return true;
     }
 
     @Override
@@ -370,60 +279,8 @@ public final class HorizontalCoversFlowView extends RecyclerView {
     }
 
     @Override
-    public LinearLayoutManager getLayoutManager() {
-        return (LinearLayoutManager) super.getLayoutManager();
-    }
-
-
-    private void resizeCovers() {
-        if (getChildCount() == 0) {
-            return;
-        }
-
-        final int coverMaxWidth = coversFlowMeasurements.getCoverMaxWidth();
-        final int maxCoverHalfWidth = coverMaxWidth / 2;
-
-        final int coverDefaultWidth = coversFlowMeasurements.getCoverDefaultWidth();
-
-        final float resizingEdgePos = coversFlowMeasurements.getResizingEdgePosition();
-        float startX = getChildAt(0).getLeft();
-
-        for (int i = 0; i < getChildCount(); i++) {
-            final CoverView coverView = (CoverView) getChildAt(i);
-
-            if (startX < resizingEdgePos) { // for covers which are placed before resizing edge
-                if (startX + coverMaxWidth < resizingEdgePos) {
-                    coverView.setDefaultSize(getHeight());
-                    coverView.updateScalingData(0, CoverView.CoverScalingData.ScalingType.NotDefined);
-
-                    // TODO: 16.03.2016 hSpacing only if not last item
-                    startX += coverDefaultWidth + horizontalSpacingValue;
-                } else { // cover fit in resizing area - wrapper fake view (with coverMaxWidth) intersect with resizing edge
-                    final float maxCoverCenterPos = startX + maxCoverHalfWidth;
-                    final float centerShiftDelta = resizingEdgePos - maxCoverCenterPos;
-
-                    // changed from [0; 1]
-                    // 0 - when cover center placed directly on resizingEdge should be coverMaxWidth
-                    // 1 - when resizing edge close_icon to cover left or right edge - should be defaultCoverWidth
-                    final float centerShiftDeltaCoefficient = Math.abs(centerShiftDelta) / maxCoverHalfWidth;
-                    final float currentCoverWidth = coverMaxWidth * (1 - centerShiftDeltaCoefficient)
-                            + coverDefaultWidth * centerShiftDeltaCoefficient;
-
-                    setCoverViewSizeByWidth(coverView, currentCoverWidth);
-
-                    updateCoverScalingData(coverView, centerShiftDelta, 1 - centerShiftDeltaCoefficient);
-                    startX += currentCoverWidth + horizontalSpacingValue;
-                }
-            } else {
-                coverView.setDefaultSize(getHeight());
-                coverView.updateScalingData(0, CoverView.CoverScalingData.ScalingType.NotDefined);
-
-                // TODO: 16.03.2016 hSpacing only if not last item
-                startX += coverDefaultWidth + horizontalSpacingValue;
-            }
-        }
-
-        requestLayout();
+    public CoversFlowLayoutManager getLayoutManager() {
+        return (CoversFlowLayoutManager) super.getLayoutManager();
     }
 
     /**
@@ -457,11 +314,6 @@ public final class HorizontalCoversFlowView extends RecyclerView {
         coverView.updateScalingData(coverViewScalingFactor, scaleType);
     }
 
-    private void setCoverViewSizeByWidth(CoverView coverView, float coverWidth) {
-        final double coverNewHeight = coverWidth / CoversFlowComputationHelper.COVER_ASPECT_RATIO;
-        coverView.setCoverViewSize(getHeight(), (int) coverWidth, (int) coverNewHeight);
-    }
-
     public interface OnCoverSelectionListener {
         void onCoverSelected(CoverEntity coverEntity);
     }
@@ -0,0 +1,197 @@
+package com.magicepg.image;
+
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.Priority;
+import com.bumptech.glide.RequestManager;
+import com.magicepg.util.DimensionUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Schedules cover images loading of the wheel page. All requests are started by the single
+ * {@link RequestManager} bound to page's lifecycle, and are prioritized - selected item first,
+ * then displayed ones and prefetched ones last.
+ * <p>
+ * While any of attached recycler views is scrolled fast - e.g. the wheel is flung - views' loads
+ * passed to {@link #load(View, Runnable)} are held back, since scrolled through items are gone
+ * before their images are decoded. Loads of recycled views are dropped, so only the still
+ * displayed ones are started once scrolling slows down. Preloads started directly by the request
+ * manager - e.g. covers of predicted landing position - keep running meanwhile.
+ * <p>
+ * Scheduler lives as long as the wheel page: it's initialized when the page is created and
+ * released when the page is destroyed, so neither the page's views nor its request manager
+ * outlive it.
+ * <p>
+ * Must be used from the main thread only.
+ *
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+public final class ImageLoadingScheduler {
+
+    /**
+     * Scroll step per frame starting from which views' loads are held back - roughly 2400 dp per second.
+     */
+    private static final int PAUSING_SCROLL_STEP_IN_DP = 40;
+
+    private static ImageLoadingScheduler instance;
+
+    private final RequestManager requestManager;
+    private final int pausingScrollStep;
+
+    private final List<RecyclerView> attachedRecyclerViews = new ArrayList<>();
+
+    /**
+     * Recycler views which are scrolled fast at the moment.
+     */
+    private final List<RecyclerView> pausingRecyclerViews = new ArrayList<>();
+
+    /**
+     * Loads held back while paused - the latest one per view, in order of binding.
+     */
+    private final Map<View, Runnable> pendingLoads = new LinkedHashMap<>();
+
+    private final RecyclerView.OnScrollListener pausingScrollListener = new RecyclerView.OnScrollListener() {
+        @Override
+        public void onScrollStateChanged(RecyclerView recyclerView, int newState) {
+            if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+                setIsPausedBy(recyclerView, false);
+            }
+        }
+
+        @Override
+        public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+            final int scrollStep = Math.max(Math.abs(dx), Math.abs(dy));
+            setIsPausedBy(recyclerView, scrollStep >= pausingScrollStep);
+        }
+    };
+
+    private boolean isPrefetching;
+
+    public static void initialize(RequestManager requestManager) {
+        instance = new ImageLoadingScheduler(requestManager);
+    }
+
+    public static ImageLoadingScheduler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Detaches scheduler from all recycler views and drops it along with held back loads.
+     * Requests themselves are cleared by the request manager along with the page.
+     */
+    public static void release() {
+        if (instance != null) {
+            instance.detachFromAll();
+            instance = null;
+        }
+    }
+
+    private ImageLoadingScheduler(RequestManager requestManager) {
+        this.requestManager = requestManager;
+        this.pausingScrollStep = (int) DimensionUtils.dpToPixels(PAUSING_SCROLL_STEP_IN_DP);
+    }
+
+    public RequestManager getRequestManager() {
+        return requestManager;
+    }
+
+    /**
+     * Holds back views' loads while {@code recyclerView} is scrolled fast.
+     */
+    public void attachTo(RecyclerView recyclerView) {
+        if (!attachedRecyclerViews.contains(recyclerView)) {
+            attachedRecyclerViews.add(recyclerView);
+            recyclerView.addOnScrollListener(pausingScrollListener);
+        }
+    }
+
+    private void detachFromAll() {
+        for (RecyclerView recyclerView : attachedRecyclerViews) {
+            recyclerView.removeOnScrollListener(pausingScrollListener);
+        }
+        attachedRecyclerViews.clear();
+        pausingRecyclerViews.clear();
+        pendingLoads.clear();
+    }
+
+    private void setIsPausedBy(RecyclerView recyclerView, boolean isPaused) {
+        final boolean wasPaused = !pausingRecyclerViews.isEmpty();
+        if (isPaused && !pausingRecyclerViews.contains(recyclerView)) {
+            pausingRecyclerViews.add(recyclerView);
+        } else if (!isPaused) {
+            pausingRecyclerViews.remove(recyclerView);
+        }
+
+        final boolean isPausedNow = !pausingRecyclerViews.isEmpty();
+        if (!isPausedNow && wasPaused) {
+            runPendingLoads();
+        }
+    }
+
+    private void runPendingLoads() {
+        final List<Runnable> loads = new ArrayList<>(pendingLoads.values());
+        pendingLoads.clear();
+        for (Runnable load : loads) {
+            load.run();
+        }
+    }
+
+    /**
+     * Runs {@code load} of {@code imageView}'s request right away, unless fast scrolling is in
+     * progress - then the view is cleared and {@code load} is held back until scrolling slows down.
+     * Held back load replaces the previous one of the same view.
+     */
+    public void load(View imageView, Runnable load) {
+        if (pausingRecyclerViews.isEmpty()) {
+            pendingLoads.remove(imageView);
+            load.run();
+        } else {
+            // view might be recycled - previously bound item's image mustn't be shown meanwhile
+            Glide.clear(imageView);
+            pendingLoads.put(imageView, load);
+        }
+    }
+
+    /**
+     * @return {@code true} if load of {@code imageView} is held back at the moment - so its
+     * request can still be replaced without cancelling any decoding in progress
+     */
+    public boolean isLoadPending(View imageView) {
+        return pendingLoads.containsKey(imageView);
+    }
+
+    /**
+     * Requests started between this call and {@link #endPrefetching()} are for views
+     * which aren't displayed yet - so they get the lowest priority.
+     */
+    public void beginPrefetching() {
+        isPrefetching = true;
+    }
+
+    public void endPrefetching() {
+        isPrefetching = false;
+    }
+
+    public Priority computeLoadingPriority(boolean isSelectedItem) {
+        if (isSelectedItem) {
+            return Priority.IMMEDIATE;
+        }
+        return isPrefetching ? Priority.LOW : Priority.HIGH;
+    }
+
+    /**
+     * Cancels request of recycled {@code imageView} - it's neither decoded nor started later anymore.
+     */
+    public void cancel(View imageView) {
+        pendingLoads.remove(imageView);
+        Glide.clear(imageView);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.magicepg.util;
+
+import android.content.Context;
+import android.hardware.SensorManager;
+import android.view.ViewConfiguration;
+
+/**
+ * Reproduces spline deceleration model of {@link android.widget.OverScroller}
+ * which is used by RecyclerView for fling gestures.
+ *
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+public final class FlingUtils {
+
+    private static final float INFLEXION = 0.35f;
+    private static final double DECELERATION_RATE = Math.log(0.78) / Math.log(0.9);
+    private static final float INCHES_PER_METER = 39.37f;
+    private static final float PHYSICAL_COEF_DEVICE_FACTOR = 0.84f;
+
+    private FlingUtils() {
+        throw new AssertionError("No instances.");
+    }
+
+    /**
+     * Returns signed distance in pixels which will be traveled by fling
+     * gesture started with {@code velocity} (pixels per second).
+     */
+    public static double computeSplineFlingDistance(Context context, float velocity) {
+        if (velocity == 0) {
+            return 0;
+        }
+        final float ppi = context.getResources().getDisplayMetrics().density * 160.0f;
+        final double physicalCoef = SensorManager.GRAVITY_EARTH * INCHES_PER_METER * ppi * PHYSICAL_COEF_DEVICE_FACTOR;
+        final double flingFriction = ViewConfiguration.getScrollFriction();
+
+        final double splineDeceleration = Math.log(INFLEXION * Math.abs(velocity) / (flingFriction * physicalCoef));
+        final double distance = flingFriction * physicalCoef * Math.exp(DECELERATION_RATE / (DECELERATION_RATE - 1.0) * splineDeceleration);
+        return Math.signum(velocity) * distance;
+    }
+
+}
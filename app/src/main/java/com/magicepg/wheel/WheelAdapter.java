@@ -6,12 +6,15 @@ import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 
+import com.bumptech.glide.Priority;
 import com.magicepg.R;
+import com.magicepg.func.Preconditions;
+import com.magicepg.image.ImageLoadingScheduler;
 import com.magicepg.wheel.entity.WheelDataItem;
+import com.magicepg.wheel.widget.AbstractWheelRecyclerView;
 import com.magicepg.wheel.widget.WheelBigWrapperView;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 
@@ -33,10 +36,44 @@ public final class WheelAdapter extends RecyclerView.Adapter<WheelAdapter.WheelI
      */
     public static final int MIDDLE_VIRTUAL_ITEMS_COUNT = VIRTUAL_ITEMS_COUNT / 2;
 
-    private final List<WheelDataItem> dataItems;
+    /**
+     * Amount of pages requested in advance before and after page of every bound item.
+     * So while wheel is rotated the next page is usually already loaded.
+     */
+    private static final int PREFETCH_PAGES_AMOUNT_AT_EACH_SIDE = 1;
+
     private final OnWheelItemClickListener itemClickListener;
     private final LayoutInflater inflater;
 
+    private final List<RecyclerView> attachedRecyclerViews = new ArrayList<>();
+    private final List<WheelDataWindow.OnPageLoadedListener> pageLoadedListeners = new ArrayList<>();
+
+    private WheelDataWindow dataWindow;
+
+    /**
+     * Amount of sector views which have been effectively rebound. Binding the same
+     * data item again (e.g. on relayout) is skipped and isn't counted.
+     */
+    private int bindsCount;
+
+    /**
+     * Amount of sector views which have been bound by taking over cover of the same sector
+     * displayed by another attached recycler view.
+     *
+     * @see WheelBigWrapperView#bindDataFrom(WheelBigWrapperView, WheelDataItem)
+     */
+    private int coverHandoversCount;
+
+    private final WheelDataWindow.OnPageLoadedListener rebindOnPageLoadedListener = new WheelDataWindow.OnPageLoadedListener() {
+        @Override
+        public void onPageLoaded(int fromRealPosition, int itemsCount) {
+            rebindVisibleItemsInRange(fromRealPosition, itemsCount);
+            for (WheelDataWindow.OnPageLoadedListener listener : pageLoadedListeners) {
+                listener.onPageLoaded(fromRealPosition, itemsCount);
+            }
+        }
+    };
+
     /**
      * For internal use only. Don't use for passing {@link WheelDataItem}
      * entity associated with sector.
@@ -45,22 +82,65 @@ public final class WheelAdapter extends RecyclerView.Adapter<WheelAdapter.WheelI
         void onItemClicked(View clickedSectorView);
     }
 
-    // TODO: WheelOfFortune 29.01.2016 Check for Preconditions here
-    public WheelAdapter(Context context, List<WheelDataItem> dataItems, OnWheelItemClickListener itemClickListener) {
+    public WheelAdapter(Context context, WheelDataWindow dataWindow, OnWheelItemClickListener itemClickListener) {
         this.inflater = LayoutInflater.from(context);
-        this.dataItems = new ArrayList<>(dataItems);
         this.itemClickListener = itemClickListener;
+        this.dataWindow = Preconditions.checkNotNull(dataWindow);
+        this.dataWindow.addPageLoadedListener(rebindOnPageLoadedListener);
     }
 
-    public void swapData(List<WheelDataItem> newData) {
-        dataItems.clear();
-        dataItems.addAll(newData);
+    public void swapData(WheelDataWindow newDataWindow) {
+        dataWindow.removePageLoadedListener(rebindOnPageLoadedListener);
+        dataWindow = Preconditions.checkNotNull(newDataWindow);
+        dataWindow.addPageLoadedListener(rebindOnPageLoadedListener);
         notifyDataSetChanged();
     }
 
+    /**
+     * Returns {@link WheelDataItem#PLACEHOLDER} when item's page has not been loaded yet.
+     */
     // TODO: WheelOfFortune 29.01.2016 Optional<WheelDataItem> here
     public WheelDataItem getDataItemByPosition(int virtualPosition) {
-        return dataItems.get(toRealPosition(virtualPosition));
+        return dataWindow.getDataItem(toRealPosition(virtualPosition));
+    }
+
+    /**
+     * Returns already loaded data items of {@code amountAtEachSide} sectors before
+     * and after the sector at {@code virtualPosition}.
+     */
+    public List<WheelDataItem> getLoadedNeighbourDataItems(int virtualPosition, int amountAtEachSide) {
+        final List<WheelDataItem> res = new ArrayList<>(2 * amountAtEachSide);
+        final int neighboursAmountAtEachSide = Math.min(amountAtEachSide, (getRealItemCount() - 1) / 2);
+        for (int shift = 1; shift <= neighboursAmountAtEachSide; shift++) {
+            addIfLoaded(toRealPosition(virtualPosition + shift), res);
+            addIfLoaded(toRealPosition(virtualPosition - shift), res);
+        }
+        return res;
+    }
+
+    private void addIfLoaded(int realPosition, List<WheelDataItem> dataItems) {
+        if (dataWindow.isLoaded(realPosition)) {
+            dataItems.add(dataWindow.getDataItem(realPosition));
+        }
+    }
+
+    /**
+     * Listener is notified after items from loaded page have been rebound to visible sectors.
+     */
+    public void addPageLoadedListener(WheelDataWindow.OnPageLoadedListener listener) {
+        pageLoadedListeners.add(listener);
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        attachedRecyclerViews.add(recyclerView);
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(RecyclerView recyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView);
+        attachedRecyclerViews.remove(recyclerView);
     }
 
     @Override
@@ -71,7 +151,76 @@ public final class WheelAdapter extends RecyclerView.Adapter<WheelAdapter.WheelI
 
     @Override
     public void onBindViewHolder(WheelItemViewHolder holder, int position) {
-        holder.bindData(getDataItemByPosition(position));
+        final int realPosition = toRealPosition(position);
+        dataWindow.requestPagesAround(realPosition, PREFETCH_PAGES_AMOUNT_AT_EACH_SIDE);
+        final WheelDataItem dataItem = dataWindow.getDataItem(realPosition);
+
+        // sector crossing the gap is displayed by both wheel's parts - so it's bound once
+        // and the other part gets its already decoded cover from memory cache
+        final WheelItemViewHolder displayedHolder = findDisplayedHolderForPosition(position, holder);
+        if (displayedHolder != null && holder.bindDataFrom(displayedHolder, dataItem)) {
+            coverHandoversCount++;
+            return;
+        }
+        bindHolder(holder, position, dataItem);
+    }
+
+    /**
+     * Prefetched sector's cover was requested with low priority - it's raised once sector is displayed.
+     */
+    @Override
+    public void onViewAttachedToWindow(WheelItemViewHolder holder) {
+        super.onViewAttachedToWindow(holder);
+        final int virtualPosition = holder.getAdapterPosition();
+        if (virtualPosition != RecyclerView.NO_POSITION) {
+            holder.upgradeCoverLoadingPriority(
+                    ImageLoadingScheduler.getInstance().computeLoadingPriority(isSelectedPosition(virtualPosition))
+            );
+        }
+    }
+
+    /**
+     * Cover's loading is cancelled for recycled views - including released prefetched ones.
+     */
+    @Override
+    public void onViewRecycled(WheelItemViewHolder holder) {
+        super.onViewRecycled(holder);
+        holder.unbind();
+    }
+
+    private WheelItemViewHolder findDisplayedHolderForPosition(int virtualPosition, WheelItemViewHolder holderToBind) {
+        for (RecyclerView recyclerView : attachedRecyclerViews) {
+            final WheelItemViewHolder displayedHolder = (WheelItemViewHolder) recyclerView.findViewHolderForAdapterPosition(virtualPosition);
+            if (displayedHolder != null && displayedHolder != holderToBind) {
+                return displayedHolder;
+            }
+        }
+        return null;
+    }
+
+    private void bindHolder(WheelItemViewHolder holder, int virtualPosition, WheelDataItem dataItem) {
+        final Priority coverLoadingPriority =
+                ImageLoadingScheduler.getInstance().computeLoadingPriority(isSelectedPosition(virtualPosition));
+        if (holder.bindData(dataItem, coverLoadingPriority)) {
+            bindsCount++;
+        }
+    }
+
+    private boolean isSelectedPosition(int virtualPosition) {
+        for (RecyclerView recyclerView : attachedRecyclerViews) {
+            if (((AbstractWheelRecyclerView) recyclerView).computeSelectedSectorAdapterPosition() == virtualPosition) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getBindsCount() {
+        return bindsCount;
+    }
+
+    public int getCoverHandoversCount() {
+        return coverHandoversCount;
     }
 
     /**
@@ -83,12 +232,24 @@ public final class WheelAdapter extends RecyclerView.Adapter<WheelAdapter.WheelI
         return getRealItemCount() == 0 ? 0 : VIRTUAL_ITEMS_COUNT;
     }
 
-    public List<WheelDataItem> getData() {
-        return Collections.unmodifiableList(dataItems);
+    public int getRealItemCount() {
+        return dataWindow.getRealItemsCount();
     }
 
-    public int getRealItemCount() {
-        return dataItems.size();
+    /**
+     * Returns the shortest shift along the endless wheel from {@code fromVirtualPosition}
+     * to any virtual position which corresponds to {@code toRealPosition}.
+     * Negative shift means moving towards smaller virtual positions.
+     */
+    public int computeShortestVirtualShift(int fromVirtualPosition, int toRealPosition) {
+        final int realItemsCount = getRealItemCount();
+        final int shift = toRealPosition - toRealPosition(fromVirtualPosition);
+        if (shift > realItemsCount / 2) {
+            return shift - realItemsCount;
+        } else if (shift < -realItemsCount / 2) {
+            return shift + realItemsCount;
+        }
+        return shift;
     }
 
     public int toRealPosition(int virtualPosition) {
@@ -98,25 +259,57 @@ public final class WheelAdapter extends RecyclerView.Adapter<WheelAdapter.WheelI
         return isPositiveShift ? shift : (realItemsCount + shift);
     }
 
+    /**
+     * Loaded items are rebound directly to already displayed sectors - notifying
+     * about item changes would force wheel's relayout which isn't needed here.
+     */
+    private void rebindVisibleItemsInRange(int fromRealPosition, int itemsCount) {
+        for (RecyclerView recyclerView : attachedRecyclerViews) {
+            for (int i = 0; i < recyclerView.getChildCount(); i++) {
+                final WheelItemViewHolder holder = (WheelItemViewHolder) recyclerView.getChildViewHolder(recyclerView.getChildAt(i));
+                final int virtualPosition = holder.getAdapterPosition();
+                if (virtualPosition == RecyclerView.NO_POSITION) {
+                    continue;
+                }
+                final int realPosition = toRealPosition(virtualPosition);
+                if (realPosition >= fromRealPosition && realPosition < fromRealPosition + itemsCount) {
+                    bindHolder(holder, virtualPosition, dataWindow.getDataItem(realPosition));
+                }
+            }
+        }
+    }
+
     static class WheelItemViewHolder extends RecyclerView.ViewHolder {
 
         private final WheelBigWrapperView bigWrapperView;
         private final OnWheelItemClickListener itemClickListener;
 
-        public WheelItemViewHolder(WheelBigWrapperView bigWrapperView, OnWheelItemClickListener itemClickListener) {
+        public WheelItemViewHolder(WheelBigWrapperView bigWrapperView, final OnWheelItemClickListener itemClickListener) {
             super(bigWrapperView);
             this.bigWrapperView = bigWrapperView;
             this.itemClickListener = itemClickListener;
-        }
-
-        void bindData(final WheelDataItem dataItem) {
             itemView.setOnClickListener(new View.OnClickListener() {
                 @Override
                 public void onClick(View v) {
                     itemClickListener.onItemClicked(itemView);
                 }
             });
-            bigWrapperView.bindData(dataItem);
+        }
+
+        boolean bindData(WheelDataItem dataItem, Priority coverLoadingPriority) {
+            return bigWrapperView.bindData(dataItem, coverLoadingPriority);
+        }
+
+        void upgradeCoverLoadingPriority(Priority coverLoadingPriority) {
+            bigWrapperView.upgradeCoverLoadingPriority(coverLoadingPriority);
+        }
+
+        void unbind() {
+            bigWrapperView.unbind();
+        }
+
+        boolean bindDataFrom(WheelItemViewHolder displayedHolder, WheelDataItem dataItem) {
+            return bigWrapperView.bindDataFrom(displayedHolder.bigWrapperView, dataItem);
         }
     }
 
@@ -12,8 +12,6 @@ import entity.MeasurementsHolder;
 import com.magicepg.wheel.entity.WheelConfig;
 
 import static java.lang.Math.PI;
-import static java.lang.Math.cos;
-import static java.lang.Math.sin;
 
 /**
  * @author Alexey Kovalev
@@ -39,6 +37,7 @@ public final class WheelComputationHelper {
     private static WheelComputationHelper instance;
 
     private final WheelConfig wheelConfig;
+    private final WheelTrigonometryTable trigonometryTable;
     private final MeasurementsHolder computedScreenDimensions;
 
     private final MeasurementsHolder sectorWrapperViewMeasurements;
@@ -80,31 +79,64 @@ public final class WheelComputationHelper {
         return Math.abs(first / second - 1) < epsilon;
     }
 
-    // TODO: WheelOfFortune 16.12.2016 to many objects allocation - reduce this amount in future
+    /**
+     * Allocates new {@link RectF} - don't use it on the drawing or layout hot paths,
+     * use {@link #fromCircleCoordsSystemToRecyclerViewCoordsSystem(RectF, RectF)} instead.
+     */
     public static RectF fromCircleCoordsSystemToRecyclerViewCoordsSystem(RectF coordinatesToTransform) {
+        final RectF res = new RectF();
+        fromCircleCoordsSystemToRecyclerViewCoordsSystem(coordinatesToTransform, res);
+        return res;
+    }
 
-        final PointF leftTopCorner = fromCircleCoordsSystemToRecyclerViewCoordsSystem(
-                new PointF(coordinatesToTransform.left, coordinatesToTransform.top)
-        );
-
-        final PointF rightBottomCorner = fromCircleCoordsSystemToRecyclerViewCoordsSystem(
-                new PointF(coordinatesToTransform.right, coordinatesToTransform.bottom)
+    /**
+     * Allocation free variant - transformed coordinates are written into {@code outRes}.
+     * {@code outRes} might be the same instance as {@code coordinatesToTransform}.
+     */
+    public static void fromCircleCoordsSystemToRecyclerViewCoordsSystem(RectF coordinatesToTransform, RectF outRes) {
+        final PointF circleCenterRelToRecyclerView = getInstance().getWheelConfig().getCircleCenterRelToRecyclerView();
+        outRes.set(
+                circleCenterRelToRecyclerView.x + coordinatesToTransform.left,
+                circleCenterRelToRecyclerView.y - coordinatesToTransform.top,
+                circleCenterRelToRecyclerView.x + coordinatesToTransform.right,
+                circleCenterRelToRecyclerView.y - coordinatesToTransform.bottom
         );
-
-        return new RectF(leftTopCorner.x, leftTopCorner.y, rightBottomCorner.x, rightBottomCorner.y);
     }
 
+    /**
+     * Allocates new {@link PointF} - don't use it on the drawing or layout hot paths,
+     * use {@link #fromCircleCoordsSystemToRecyclerViewCoordsSystem(float, float, PointF)} instead.
+     */
     public static PointF fromCircleCoordsSystemToRecyclerViewCoordsSystem(PointF pointToTransform) {
+        final PointF res = new PointF();
+        fromCircleCoordsSystemToRecyclerViewCoordsSystem(pointToTransform.x, pointToTransform.y, res);
+        return res;
+    }
+
+    /**
+     * Allocation free variant - transformed coordinates are written into {@code outRes}.
+     */
+    public static void fromCircleCoordsSystemToRecyclerViewCoordsSystem(float x, float y, PointF outRes) {
         final PointF circleCenterRelToRecyclerView = getInstance().getWheelConfig().getCircleCenterRelToRecyclerView();
+        outRes.set(circleCenterRelToRecyclerView.x + x, circleCenterRelToRecyclerView.y - y);
+    }
 
-        return new PointF(
-                circleCenterRelToRecyclerView.x + pointToTransform.x,
-                circleCenterRelToRecyclerView.y - pointToTransform.y
-        );
+    /**
+     * Transforms point given by polar coordinates in circle coords system directly into recycler
+     * view coords system. Angle is {@code sectorsShift} whole sectors away from {@code referenceAngle},
+     * so its trigonometry is taken from the table - suitable for per frame computations.
+     * X and Y coordinates are written into {@code outCoords} at {@code offset} and {@code offset + 1}.
+     */
+    public static void fromPolarToRecyclerViewCoordsSystem(double radius, WheelTrigonometryTable.IncrementalAngle referenceAngle,
+                                                           int sectorsShift, float[] outCoords, int offset) {
+        final PointF circleCenterRelToRecyclerView = getInstance().getWheelConfig().getCircleCenterRelToRecyclerView();
+        outCoords[offset] = (float) (circleCenterRelToRecyclerView.x + radius * referenceAngle.cosShiftedBySectors(sectorsShift));
+        outCoords[offset + 1] = (float) (circleCenterRelToRecyclerView.y - radius * referenceAngle.sinShiftedBySectors(sectorsShift));
     }
 
     private WheelComputationHelper(Context context, WheelConfig wheelConfig) {
         this.wheelConfig = wheelConfig;
+        this.trigonometryTable = new WheelTrigonometryTable(wheelConfig);
         this.sectorWrapperViewMeasurements = new MeasurementsHolder(
                 computeSectorWrapperViewWidth(),
                 computeSectorWrapperViewHeight()
@@ -119,7 +151,7 @@ public final class WheelComputationHelper {
      * Width of the view which wraps the sector.
      */
     private int computeSectorWrapperViewWidth() {
-        final double delta = wheelConfig.getInnerRadius() * cos(wheelConfig.getAngularRestrictions().getSectorHalfAngleInRad());
+        final double delta = wheelConfig.getInnerRadius() * trigonometryTable.getSectorHalfAngleCos();
         return (int) (wheelConfig.getOuterRadius() - delta);
     }
 
@@ -127,7 +159,7 @@ public final class WheelComputationHelper {
      * Height of the view which wraps the sector.
      */
     private int computeSectorWrapperViewHeight() {
-        final double halfHeight = wheelConfig.getOuterRadius() * sin(wheelConfig.getAngularRestrictions().getSectorHalfAngleInRad());
+        final double halfHeight = wheelConfig.getOuterRadius() * trigonometryTable.getSectorHalfAngleSin();
         return (int) (2 * halfHeight);
     }
 
@@ -143,8 +175,8 @@ public final class WheelComputationHelper {
         final int sectorWrapperViewHalfHeight = sectorWrapperViewMeasurements.getHeight() / 2;
 
         final double sectorHalfAngleInRad = wheelConfig.getAngularRestrictions().getSectorHalfAngleInRad();
-        final double leftBaseDelta = wheelConfig.getInnerRadius() * sin(sectorHalfAngleInRad);
-        final double rightBaseDelta = wheelConfig.getOuterRadius() * sin(sectorHalfAngleInRad);
+        final double leftBaseDelta = wheelConfig.getInnerRadius() * trigonometryTable.getSectorHalfAngleSin();
+        final double rightBaseDelta = wheelConfig.getOuterRadius() * trigonometryTable.getSectorHalfAngleSin();
 
         final CoordinatesHolder bottomLeftCorner = CoordinatesHolder.ofRect(0, sectorWrapperViewHalfHeight + leftBaseDelta);
         final CoordinatesHolder topLeftCorner = CoordinatesHolder.ofRect(0, sectorWrapperViewHalfHeight - leftBaseDelta);
@@ -174,6 +206,10 @@ public final class WheelComputationHelper {
         return wheelConfig;
     }
 
+    public WheelTrigonometryTable getTrigonometryTable() {
+        return trigonometryTable;
+    }
+
     public MeasurementsHolder getSectorWrapperViewMeasurements() {
         return sectorWrapperViewMeasurements;
     }
@@ -213,8 +249,17 @@ public final class WheelComputationHelper {
      * @param wrapperViewWidth - depends on inner and outer radius values
      */
     public RectF getBigWrapperViewCoordsInCircleSystem(int wrapperViewWidth) {
+        final RectF res = new RectF();
+        getBigWrapperViewCoordsInCircleSystem(wrapperViewWidth, res);
+        return res;
+    }
+
+    /**
+     * Allocation free variant - coordinates are written into {@code outRes}.
+     */
+    public void getBigWrapperViewCoordsInCircleSystem(int wrapperViewWidth, RectF outRes) {
         final int topEdge = sectorWrapperViewMeasurements.getHeight() / 2;
-        return new RectF(0, topEdge, wrapperViewWidth, -topEdge);
+        outRes.set(0, topEdge, wrapperViewWidth, -topEdge);
     }
 
 
@@ -0,0 +1,215 @@
+package com.magicepg.wheel;
+
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+
+import com.magicepg.func.Consumer;
+import com.magicepg.func.Preconditions;
+import com.magicepg.wheel.entity.WheelDataItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Paged window over wheel's data items. Data set might be huge (thousands of channels)
+ * so only pages around positions which wheel actually displays are requested from
+ * {@link PageLoader}. For not yet loaded slots {@link WheelDataItem#PLACEHOLDER} is served.
+ * <p>
+ * Amount of loaded pages is bounded: when it's exceeded, the least recently used page is
+ * unloaded and is requested again as soon as it's needed. Page is used whenever it's requested
+ * - i.e. while wheel displays sectors on it or close to it.
+ * <p>
+ * Has to be accessed from the main thread only - {@link PageLoader} is obliged
+ * to deliver loaded pages on the main thread as well.
+ *
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+public final class WheelDataWindow {
+
+    /**
+     * Loads wheel data items page by page.
+     */
+    public interface PageLoader {
+
+        /**
+         * Loads data items for real positions in range
+         * [{@code fromRealPosition}; {@code fromRealPosition + itemsCount}) and delivers
+         * them to {@code pageConsumer} on the main thread.
+         */
+        void loadPage(int fromRealPosition, int itemsCount, Consumer<List<WheelDataItem>> pageConsumer);
+    }
+
+    public interface OnPageLoadedListener {
+        void onPageLoaded(int fromRealPosition, int itemsCount);
+    }
+
+    private static final PageLoader NO_PAGES_PAGE_LOADER = new PageLoader() {
+        @Override
+        public void loadPage(int fromRealPosition, int itemsCount, Consumer<List<WheelDataItem>> pageConsumer) {
+            throw new IllegalStateException("Fully loaded data window doesn't request pages.");
+        }
+    };
+
+    private final int realItemsCount;
+    private final int pageSize;
+    private final int maxLoadedPagesAmount;
+    private final PageLoader pageLoader;
+
+    private final SparseArray<WheelDataItem> loadedDataItems;
+    private final SparseBooleanArray requestedPages = new SparseBooleanArray();
+
+    /**
+     * Items count of loaded pages by page index - in order from the least to the most recently used.
+     */
+    private final Map<Integer, Integer> loadedPagesItemsCount = new LinkedHashMap<Integer, Integer>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+            if (size() <= maxLoadedPagesAmount) {
+                return false;
+            }
+            unloadPage(eldest.getKey(), eldest.getValue());
+            return true;
+        }
+    };
+    private final List<OnPageLoadedListener> pageLoadedListeners = new ArrayList<>();
+
+    public static WheelDataWindow empty() {
+        return ofItems(Collections.<WheelDataItem>emptyList());
+    }
+
+    /**
+     * Creates fully loaded window - all items are available immediately.
+     */
+    public static WheelDataWindow ofItems(List<WheelDataItem> dataItems) {
+        final WheelDataWindow res = new WheelDataWindow(dataItems.size(), Math.max(dataItems.size(), 1), 1, NO_PAGES_PAGE_LOADER);
+        for (int i = 0; i < dataItems.size(); i++) {
+            res.loadedDataItems.put(i, dataItems.get(i));
+        }
+        res.requestedPages.put(0, true);
+        res.loadedPagesItemsCount.put(0, dataItems.size());
+        return res;
+    }
+
+    /**
+     * Creates window which requests pages lazily via {@code pageLoader}.
+     *
+     * @param maxLoadedPagesAmount - has to cover pages which are requested together
+     *                             by {@link #requestPagesAround(int, int)}
+     */
+    public static WheelDataWindow paged(int realItemsCount, int pageSize, int maxLoadedPagesAmount, PageLoader pageLoader) {
+        Preconditions.checkArgument(realItemsCount >= 0, "Negative items count [%s]", realItemsCount);
+        Preconditions.checkArgument(pageSize > 0, "Page size has to be positive but was [%s]", pageSize);
+        Preconditions.checkArgument(maxLoadedPagesAmount > 0,
+                "Max loaded pages amount has to be positive but was [%s]", maxLoadedPagesAmount);
+        return new WheelDataWindow(realItemsCount, pageSize, maxLoadedPagesAmount, Preconditions.checkNotNull(pageLoader));
+    }
+
+    private WheelDataWindow(int realItemsCount, int pageSize, int maxLoadedPagesAmount, PageLoader pageLoader) {
+        this.realItemsCount = realItemsCount;
+        this.pageSize = pageSize;
+        this.maxLoadedPagesAmount = maxLoadedPagesAmount;
+        this.pageLoader = pageLoader;
+        this.loadedDataItems = new SparseArray<>(Math.min(realItemsCount, pageSize));
+    }
+
+    public int getRealItemsCount() {
+        return realItemsCount;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public boolean isLoaded(int realPosition) {
+        return loadedDataItems.get(realPosition) != null;
+    }
+
+    /**
+     * Returns data item for {@code realPosition} or {@link WheelDataItem#PLACEHOLDER}
+     * when it has not been loaded yet. In the latter case page containing this position
+     * will be requested.
+     */
+    public WheelDataItem getDataItem(int realPosition) {
+        final WheelDataItem dataItem = loadedDataItems.get(realPosition);
+        if (dataItem != null) {
+            return dataItem;
+        }
+        requestPage(realPosition / pageSize);
+        return WheelDataItem.PLACEHOLDER;
+    }
+
+    /**
+     * Requests page containing {@code realPosition} and {@code pagesAmountAtEachSide}
+     * pages before and after it. Wheel is endless so pages are wrapped around data set edges.
+     */
+    public void requestPagesAround(int realPosition, int pagesAmountAtEachSide) {
+        final int pagesCount = getPagesCount();
+        if (pagesCount == 0) {
+            return;
+        }
+        final int centralPageIndex = realPosition / pageSize;
+        final int pagesToRequest = Math.min(2 * pagesAmountAtEachSide + 1, pagesCount);
+        for (int i = 0; i < pagesToRequest; i++) {
+            final int shift = i % 2 == 0 ? i / 2 : -(i / 2 + 1);
+            requestPage(wrapPageIndex(centralPageIndex + shift, pagesCount));
+        }
+    }
+
+    public void addPageLoadedListener(OnPageLoadedListener listener) {
+        pageLoadedListeners.add(Preconditions.checkNotNull(listener));
+    }
+
+    public void removePageLoadedListener(OnPageLoadedListener listener) {
+        pageLoadedListeners.remove(listener);
+    }
+
+    private int getPagesCount() {
+        return (realItemsCount + pageSize - 1) / pageSize;
+    }
+
+    private static int wrapPageIndex(int pageIndex, int pagesCount) {
+        final int res = pageIndex % pagesCount;
+        return res >= 0 ? res : res + pagesCount;
+    }
+
+    private void requestPage(final int pageIndex) {
+        if (requestedPages.get(pageIndex)) {
+            // marks loaded page as the most recently used one
+            loadedPagesItemsCount.get(pageIndex);
+            return;
+        }
+        requestedPages.put(pageIndex, true);
+
+        final int fromRealPosition = pageIndex * pageSize;
+        final int itemsCount = Math.min(pageSize, realItemsCount - fromRealPosition);
+        pageLoader.loadPage(fromRealPosition, itemsCount, new Consumer<List<WheelDataItem>>() {
+            @Override
+            public void accept(List<WheelDataItem> pageItems) {
+                onPageLoaded(pageIndex, fromRealPosition, pageItems);
+            }
+        });
+    }
+
+    private void onPageLoaded(int pageIndex, int fromRealPosition, List<WheelDataItem> pageItems) {
+        for (int i = 0; i < pageItems.size(); i++) {
+            loadedDataItems.put(fromRealPosition + i, pageItems.get(i));
+        }
+        loadedPagesItemsCount.put(pageIndex, pageItems.size());
+        for (OnPageLoadedListener listener : new ArrayList<>(pageLoadedListeners)) {
+            listener.onPageLoaded(fromRealPosition, pageItems.size());
+        }
+    }
+
+    private void unloadPage(int pageIndex, int itemsCount) {
+        final int fromRealPosition = pageIndex * pageSize;
+        for (int i = 0; i < itemsCount; i++) {
+            loadedDataItems.remove(fromRealPosition + i);
+        }
+        requestedPages.delete(pageIndex);
+    }
+
+}
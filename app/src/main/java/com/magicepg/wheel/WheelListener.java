@@ -18,5 +18,12 @@ public interface WheelListener {
      */
     void onDataItemSelected(WheelDataItem selectedDataItem);
 
+    /**
+     * Triggers when fling gesture starts and informs about data item associated
+     * with the sector in which wheel is going to stop. Selection itself will be
+     * reported via {@link #onDataItemSelected(WheelDataItem)} after wheel stops.
+     */
+    void onDataItemPredictedToBeSelected(WheelDataItem predictedDataItem);
+
     void onWheelRotationStateChange(WheelRotationState wheelRotationState);
 }
@@ -0,0 +1,189 @@
+package com.magicepg.wheel;
+
+import com.magicepg.wheel.entity.WheelConfig;
+
+/**
+ * Precomputed cosine and sine values for angles which are multiples of the sector angle.
+ * Sectors are laid out with exactly sector angle step, so knowing trigonometry of one
+ * reference angle is enough to get positions of all sector edges via angle-addition
+ * formulas - i.e. using only multiplications and additions.
+ *
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+public final class WheelTrigonometryTable {
+
+    private final double sectorAngleInRad;
+
+    /**
+     * Table covers shifts in [-maxSectorsShift; maxSectorsShift] sectors -
+     * i.e. the whole circle in both directions.
+     */
+    private final int maxSectorsShift;
+    private final double[] cosBySectorsShift;
+    private final double[] sinBySectorsShift;
+
+    private final double sectorHalfAngleCos;
+    private final double sectorHalfAngleSin;
+
+    public WheelTrigonometryTable(WheelConfig wheelConfig) {
+        this(wheelConfig.getAngularRestrictions());
+    }
+
+    public WheelTrigonometryTable(WheelConfig.AngularRestrictions angularRestrictions) {
+        this.sectorAngleInRad = angularRestrictions.getSectorAngleInRad();
+        this.maxSectorsShift = (int) Math.ceil(Math.PI / sectorAngleInRad);
+
+        final int tableSize = 2 * maxSectorsShift + 1;
+        this.cosBySectorsShift = new double[tableSize];
+        this.sinBySectorsShift = new double[tableSize];
+        for (int sectorsShift = -maxSectorsShift; sectorsShift <= maxSectorsShift; sectorsShift++) {
+            cosBySectorsShift[sectorsShift + maxSectorsShift] = Math.cos(sectorsShift * sectorAngleInRad);
+            sinBySectorsShift[sectorsShift + maxSectorsShift] = Math.sin(sectorsShift * sectorAngleInRad);
+        }
+
+        this.sectorHalfAngleCos = Math.cos(angularRestrictions.getSectorHalfAngleInRad());
+        this.sectorHalfAngleSin = Math.sin(angularRestrictions.getSectorHalfAngleInRad());
+    }
+
+    public double getSectorAngleInRad() {
+        return sectorAngleInRad;
+    }
+
+    public int getMaxSectorsShift() {
+        return maxSectorsShift;
+    }
+
+    public double cosOfSectorsShift(int sectorsShift) {
+        return cosBySectorsShift[sectorsShift + maxSectorsShift];
+    }
+
+    public double sinOfSectorsShift(int sectorsShift) {
+        return sinBySectorsShift[sectorsShift + maxSectorsShift];
+    }
+
+    public double getSectorHalfAngleCos() {
+        return sectorHalfAngleCos;
+    }
+
+    public double getSectorHalfAngleSin() {
+        return sectorHalfAngleSin;
+    }
+
+    /**
+     * Returns amount of whole sectors between {@code fromAngleInRad} and {@code toAngleInRad}.
+     */
+    public int toSectorsShift(double fromAngleInRad, double toAngleInRad) {
+        return (int) Math.round((toAngleInRad - fromAngleInRad) / sectorAngleInRad);
+    }
+
+    public IncrementalAngle createIncrementalAngle(double initialAngleInRad) {
+        return new IncrementalAngle(this, initialAngleInRad);
+    }
+
+    /**
+     * Angle which tracks its cosine and sine while being moved by small steps - as it
+     * happens while wheel is rotated. Each step is decomposed into whole sectors shift
+     * taken from the table and small residual handled by Taylor series, so no
+     * transcendental functions are called. Accumulated error is suppressed by
+     * renormalization on every step and by periodic exact resynchronization.
+     */
+    public static final class IncrementalAngle {
+
+        /**
+         * Max deviation of tracked cosine and sine from the exact values.
+         */
+        public static final double MAX_ERROR = 1e-8;
+
+        /**
+         * Taylor series up to 7th order keeps error of a single step within 2.5e-13 for this residual.
+         * Error of each step has the same sign while wheel is rotated in one direction, so it's
+         * accumulated until resynchronization - up to about 6.4e-11 per resync period.
+         */
+        private static final double MAX_TAYLOR_RESIDUAL_IN_RAD = 0.1;
+        private static final int RESYNC_PERIOD_IN_STEPS = 256;
+
+        private final WheelTrigonometryTable table;
+
+        private double angleInRad;
+        private double cos;
+        private double sin;
+        private int stepsSinceResync;
+
+        private IncrementalAngle(WheelTrigonometryTable table, double initialAngleInRad) {
+            this.table = table;
+            resync(initialAngleInRad);
+        }
+
+        public double getAngleInRad() {
+            return angleInRad;
+        }
+
+        public double getCos() {
+            return cos;
+        }
+
+        public double getSin() {
+            return sin;
+        }
+
+        /**
+         * Cosine of this angle shifted by {@code sectorsShift} whole sectors.
+         */
+        public double cosShiftedBySectors(int sectorsShift) {
+            return cos * table.cosOfSectorsShift(sectorsShift) - sin * table.sinOfSectorsShift(sectorsShift);
+        }
+
+        /**
+         * Sine of this angle shifted by {@code sectorsShift} whole sectors.
+         */
+        public double sinShiftedBySectors(int sectorsShift) {
+            return sin * table.cosOfSectorsShift(sectorsShift) + cos * table.sinOfSectorsShift(sectorsShift);
+        }
+
+        public void moveTo(double newAngleInRad) {
+            final double delta = newAngleInRad - angleInRad;
+            if (delta == 0) {
+                return;
+            }
+
+            final int sectorsShift = (int) Math.round(delta / table.sectorAngleInRad);
+            final double residual = delta - sectorsShift * table.sectorAngleInRad;
+            final boolean isTableApplicable = Math.abs(sectorsShift) <= table.maxSectorsShift
+                    && Math.abs(residual) <= MAX_TAYLOR_RESIDUAL_IN_RAD;
+
+            if (!isTableApplicable || ++stepsSinceResync >= RESYNC_PERIOD_IN_STEPS) {
+                resync(newAngleInRad);
+                return;
+            }
+
+            if (sectorsShift != 0) {
+                rotateBy(table.cosOfSectorsShift(sectorsShift), table.sinOfSectorsShift(sectorsShift));
+            }
+            final double residualSquare = residual * residual;
+            final double residualCos = 1 - residualSquare / 2 * (1 - residualSquare / 12 * (1 - residualSquare / 30));
+            final double residualSin = residual * (1 - residualSquare / 6 * (1 - residualSquare / 20 * (1 - residualSquare / 42)));
+            rotateBy(residualCos, residualSin);
+
+            // first order renormalization - keeps point on the unit circle
+            final double normCorrection = (3 - (cos * cos + sin * sin)) / 2;
+            cos *= normCorrection;
+            sin *= normCorrection;
+            angleInRad = newAngleInRad;
+        }
+
+        private void rotateBy(double deltaCos, double deltaSin) {
+            final double newCos = cos * deltaCos - sin * deltaSin;
+            sin = sin * deltaCos + cos * deltaSin;
+            cos = newCos;
+        }
+
+        private void resync(double newAngleInRad) {
+            angleInRad = newAngleInRad;
+            cos = Math.cos(newAngleInRad);
+            sin = Math.sin(newAngleInRad);
+            stepsSinceResync = 0;
+        }
+    }
+
+}
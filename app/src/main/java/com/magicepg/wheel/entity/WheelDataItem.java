@@ -17,16 +17,31 @@ public final class WheelDataItem {
 
     public static final Color DEFAULT_LEFT_EDGE_COLOR = Color.WHITE;
 
+    /**
+     * Stands for data item which has not been loaded yet.
+     */
+    public static final WheelDataItem PLACEHOLDER = new WheelDataItem("", "", DEFAULT_LEFT_EDGE_COLOR, null);
+
+    private final String id;
     private final String title;
     private final Color leftEdgeColor;
     private final Uri coverUri;
 
-    public WheelDataItem(String title, Color leftEdgeColor, Uri coverUri) {
+    public WheelDataItem(String id, String title, Color leftEdgeColor, Uri coverUri) {
+        this.id = id;
         this.title = title;
         this.leftEdgeColor = leftEdgeColor;
         this.coverUri = coverUri;
     }
 
+    public String getId() {
+        return StringUtils.defaultString(id);
+    }
+
+    public boolean isPlaceholder() {
+        return this == PLACEHOLDER;
+    }
+
     public String getTitle() {
         return StringUtils.defaultString(title);
     }
@@ -43,4 +58,21 @@ public final class WheelDataItem {
         return getCoverUri().isPresent();
     }
 
+    /**
+     * Data items are identified by id only - it stays the same between reloads
+     * of the same channel.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final WheelDataItem that = (WheelDataItem) o;
+        return getId().equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getId().hashCode();
+    }
+
 }
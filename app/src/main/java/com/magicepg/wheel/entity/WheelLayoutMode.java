@@ -0,0 +1,21 @@
+package com.magicepg.wheel.entity;
+
+/**
+ * Defines how wheel's ring is represented by views.
+ *
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+public enum WheelLayoutMode {
+
+    /**
+     * Top and bottom parts are separate views - top one plays role of MASTER
+     * and forwards its rotation to the bottom one.
+     */
+    SeparateParts,
+
+    /**
+     * The whole ring is laid out and drawn by a single view.
+     */
+    SingleRing
+}
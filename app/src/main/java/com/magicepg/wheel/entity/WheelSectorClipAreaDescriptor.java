@@ -1,5 +1,6 @@
 package com.magicepg.wheel.entity;
 
+import android.graphics.Path;
 import android.graphics.RectF;
 
 import com.magicepg.wheel.widget.WheelSectorWrapperView;
@@ -69,6 +70,13 @@ public final class WheelSectorClipAreaDescriptor {
     private final float sectorTopEdgeAngleInDegree;
     private final float sectorSweepAngleInDegree;
 
+    /**
+     * Sector's shape in {@link WheelSectorWrapperView} coordinates system - the same for all sectors.
+     */
+    private final Path sectorShapePath;
+
+    private final int geometryHash;
+
     public WheelSectorClipAreaDescriptor(CoordinatesHolder bottomLeftCorner,
                                          CoordinatesHolder bottomRightCorner,
                                          CoordinatesHolder topLeftCorner,
@@ -83,6 +91,23 @@ public final class WheelSectorClipAreaDescriptor {
         this.wheelEmbracingSquaresConfig = wheelEmbracingSquaresConfig;
         this.sectorTopEdgeAngleInDegree = sectorTopEdgeAngleInDegree;
         this.sectorSweepAngleInDegree = sectorSweepAngleInDegree;
+        this.sectorShapePath = createSectorShapePath();
+        this.geometryHash = toString().hashCode();
+    }
+
+    private Path createSectorShapePath() {
+        final Path res = new Path();
+        final RectF outerCircleEmbracingSquare = wheelEmbracingSquaresConfig.getOuterCircleEmbracingSquareInSectorWrapperCoordsSystem();
+        final RectF innerCircleEmbracingSquare = wheelEmbracingSquaresConfig.getInnerCircleEmbracingSquareInSectorWrapperCoordsSystem();
+
+        res.moveTo(topLeftCorner.getXAsFloat(), topLeftCorner.getYAsFloat());
+        res.lineTo(bottomRightCorner.getXAsFloat(), bottomRightCorner.getYAsFloat());
+        res.arcTo(innerCircleEmbracingSquare, sectorTopEdgeAngleInDegree, -sectorSweepAngleInDegree);
+        res.arcTo(outerCircleEmbracingSquare, -sectorTopEdgeAngleInDegree, sectorSweepAngleInDegree);
+        res.lineTo(topLeftCorner.getXAsFloat(), topLeftCorner.getYAsFloat());
+        res.close();
+
+        return res;
     }
 
     public CoordinatesHolder getBottomLeftCorner() {
@@ -113,6 +138,20 @@ public final class WheelSectorClipAreaDescriptor {
         return sectorSweepAngleInDegree;
     }
 
+    /**
+     * Stable across app launches for the same sector's geometry - so it can be a part of persistent keys.
+     */
+    public int getGeometryHash() {
+        return geometryHash;
+    }
+
+    /**
+     * Shared by all sector views, so it mustn't be modified.
+     */
+    public Path getSectorShapePath() {
+        return sectorShapePath;
+    }
+
     @Override
     public String toString() {
         return "WheelSectorClipAreaDescriptor{" +
@@ -0,0 +1,22 @@
+package com.magicepg.wheel.entity;
+
+/**
+ * Defines how wheel appears on the screen initially.
+ *
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+public enum WheelStartupMode {
+
+    /**
+     * Sectors are laid out out of the screen and rotated into place by startup animation.
+     * Wheel doesn't accept input until animation is finished.
+     */
+    Animated,
+
+    /**
+     * Sectors are laid out right into their resting configuration,
+     * so wheel accepts input at once.
+     */
+    Immediate
+}
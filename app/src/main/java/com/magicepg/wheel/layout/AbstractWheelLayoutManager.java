@@ -1,7 +1,5 @@
 package com.magicepg.wheel.layout;
 
-import android.animation.Animator;
-import android.animation.AnimatorListenerAdapter;
 import android.content.Context;
 import android.graphics.RectF;
 import android.support.v7.widget.RecyclerView;
@@ -9,7 +7,13 @@ import android.util.AttributeSet;
 import android.view.View;
 import android.view.ViewGroup;
 
+import com.magicepg.BuildConfig;
+import com.magicepg.animation.FrameAnimation;
+import com.magicepg.animation.FrameAnimationClock;
+import com.magicepg.func.Preconditions;
+import com.magicepg.wheel.WheelAdapter;
 import com.magicepg.wheel.entity.WheelRotationDirection;
+import com.magicepg.wheel.entity.WheelStartupMode;
 import com.magicepg.wheel.rotator.AbstractWheelRotator;
 import com.magicepg.wheel.WheelComputationHelper;
 import com.magicepg.wheel.entity.WheelConfig;
@@ -33,6 +37,12 @@ public abstract class AbstractWheelLayoutManager extends RecyclerView.LayoutMana
     private static final int NOT_DEFINED_ADAPTER_POSITION = Integer.MAX_VALUE;
     private static final double NOT_DEFINED_ROTATION_ANGLE = Double.MIN_VALUE;
 
+    /**
+     * Sectors which will be added during this amount of frames at current rotation speed are prefetched.
+     */
+    private static final int PREFETCH_LOOKAHEAD_FRAMES_AMOUNT = 4;
+    private static final int MAX_PREFETCHED_SECTORS_AMOUNT = 3;
+
 
     public interface WheelOnInitialLayoutFinishingListener {
         void onInitialLayoutFinished(int finishedAtAdapterPosition);
@@ -59,6 +69,7 @@ public abstract class AbstractWheelLayoutManager extends RecyclerView.LayoutMana
     protected final WheelOnInitialLayoutFinishingListener initialLayoutFinishingListener;
     private final List<WheelOnStartupAnimationListener> startupAnimationListeners = new ArrayList<>();
 
+    private WheelStartupMode startupMode = WheelStartupMode.Animated;
     private boolean isStartupAnimationLayoutDone;
     private boolean isStartupAnimationFinished;
 
@@ -67,6 +78,38 @@ public abstract class AbstractWheelLayoutManager extends RecyclerView.LayoutMana
 
     private int startLayoutFromAdapterPosition = NOT_DEFINED_ADAPTER_POSITION;
 
+    /**
+     * Whole wheel rotation state is defined by angular position of the sector
+     * at {@link #basePosition}. Angles of all other sectors are derived from it,
+     * so they are never accumulated and don't drift while wheel is rotated.
+     *
+     * @see #computeSectorAngleInRadForPosition(int)
+     */
+    private double phaseInRad;
+    private int basePosition;
+
+    /**
+     * When enabled, sector views are rotated only when wheel passes half of sector angle.
+     * Rotation below this threshold is applied at once to the whole container
+     * by {@link com.magicepg.wheel.widget.AbstractWheelRecyclerView} while drawing.
+     */
+    private boolean isContainerRotationEnabled;
+    private double containerRotationInRad;
+    private RecyclerView attachedRecyclerView;
+
+    private WheelSectorsPrefetcher sectorsPrefetcher;
+
+    /**
+     * Start position of the last regular layout. Reset when wheel is rotated,
+     * so layout from the same start position after it is a plain relayout.
+     */
+    private int lastRegularLayoutStartPosition = NOT_DEFINED_ADAPTER_POSITION;
+
+    /**
+     * Reused for every sector layout in order to don't allocate while wheel is rotated.
+     */
+    private final RectF bigWrapperViewCoordsBuffer = new RectF();
+
     public static LayoutParams getChildLayoutParams(View child) {
         return (LayoutParams) child.getLayoutParams();
     }
@@ -146,32 +189,79 @@ public abstract class AbstractWheelLayoutManager extends RecyclerView.LayoutMana
             return;
         }
 
-        removeAndRecycleAllViews(recycler);
+        // prefetched views might be bound for positions which aren't around the new layout
+        if (sectorsPrefetcher != null) {
+            sectorsPrefetcher.clear();
+        }
+
+        // Children are only scrapped - sectors which remain visible after relayout
+        // are taken back from scrap without rebinding. Not reused scrap is recycled by RecyclerView.
+        detachAndScrapAttachedViews(recycler);
 
         if (getStartLayoutFromAdapterPosition() == NOT_DEFINED_ADAPTER_POSITION) {
             return;
         }
 
+        // wheel is laid out right into resting configuration - startup is over at once
+        final boolean isImmediateStartup = !isStartupAnimationLayoutDone && startupMode == WheelStartupMode.Immediate;
+        if (isImmediateStartup) {
+            isStartupAnimationLayoutDone = true;
+            isStartupAnimationFinished = true;
+        }
+
         final int lastlyLayoutedChildPos;
         if (isStartupAnimationLayoutDone) {
+            final boolean isPlainRelayout = !state.didStructureChange()
+                    && lastRegularLayoutStartPosition == getStartLayoutFromAdapterPosition();
+            final int bindsCountBeforeLayout = getAdapterBindsCount();
+
+            containerRotationInRad = 0;
             lastlyLayoutedChildPos = onLayoutChildrenRegular(recycler, state);
+            if (isContainerRotationEnabled) {
+                // cover half sector margins at both sides which might be exposed by container rotation
+                clockwiseRotator.addSectors(recycler, state);
+                anticlockwiseRotator.addSectors(recycler, state);
+            }
+            if (BuildConfig.DEBUG && isPlainRelayout) {
+                Preconditions.checkState(getAdapterBindsCount() == bindsCountBeforeLayout,
+                        "Plain relayout has rebound [%s] sectors", getAdapterBindsCount() - bindsCountBeforeLayout);
+            }
+            lastRegularLayoutStartPosition = getStartLayoutFromAdapterPosition();
             notifyLayoutFinishingListener(lastlyLayoutedChildPos + 1);
+            if (isImmediateStartup) {
+                notifyOnAnimationUpdate(WheelStartupAnimationStatus.Start);
+                notifyOnAnimationUpdate(WheelStartupAnimationStatus.Finished);
+            }
         } else {
+            containerRotationInRad = 0;
+            lastRegularLayoutStartPosition = NOT_DEFINED_ADAPTER_POSITION;
             lastlyLayoutedChildPos = onLayoutChildrenForStartupAnimation(recycler, state);
-            final Animator wheelStartupAnimator = createWheelStartupAnimator(recycler, state);
-            wheelStartupAnimator.addListener(new AnimatorListenerAdapter() {
+            final FrameAnimation wheelStartupAnimation = createWheelStartupAnimation(recycler, state);
+            wheelStartupAnimation.addListener(new FrameAnimation.ListenerAdapter() {
                 @Override
-                public void onAnimationEnd(Animator animation) {
+                public void onAnimationEnd(FrameAnimation animation) {
                     isStartupAnimationFinished = true;
+                    settleContainerRotation();
                 }
             });
-            wheelStartupAnimator.start();
+            wheelStartupAnimation.start();
             isStartupAnimationLayoutDone = true;
             notifyLayoutFinishingListener(lastlyLayoutedChildPos);
         }
 
     }
 
+    /**
+     * Sectors bound so far - both regularly and by taking over cover of another wheel's part.
+     */
+    private int getAdapterBindsCount() {
+        if (attachedRecyclerView == null || attachedRecyclerView.getAdapter() == null) {
+            return 0;
+        }
+        final WheelAdapter wheelAdapter = (WheelAdapter) attachedRecyclerView.getAdapter();
+        return wheelAdapter.getBindsCount() + wheelAdapter.getCoverHandoversCount();
+    }
+
     protected abstract AbstractWheelRotator createClockwiseRotator();
 
     protected abstract AbstractWheelRotator createAnticlockwiseRotator();
@@ -180,6 +270,11 @@ public abstract class AbstractWheelLayoutManager extends RecyclerView.LayoutMana
 
     protected abstract double computeLayoutEndAngleInRad();
 
+    /**
+     * Angular position of the sector from which regular layout is started.
+     */
+    protected abstract double computeStartLayoutSectorAngleInRad();
+
     /**
      * Does children layout before launching startup wheel animation.
      * For startup animation we have to layout children in another way than
@@ -195,7 +290,17 @@ public abstract class AbstractWheelLayoutManager extends RecyclerView.LayoutMana
 
     protected abstract void notifyLayoutFinishingListener(int lastlyLayoutedChildPos);
 
-    protected abstract Animator createWheelStartupAnimator(RecyclerView.Recycler recycler, RecyclerView.State state);
+    /**
+     * Startup animation is advanced by {@link FrameAnimationClock} along with all other wheel page animations.
+     */
+    protected abstract FrameAnimation createWheelStartupAnimation(RecyclerView.Recycler recycler, RecyclerView.State state);
+
+    /**
+     * Has to be configured before wheel's initial layout.
+     */
+    public final void setStartupMode(WheelStartupMode startupMode) {
+        this.startupMode = startupMode;
+    }
 
     public final boolean isStartupAnimationFinished() {
         return isStartupAnimationFinished;
@@ -233,9 +338,87 @@ public abstract class AbstractWheelLayoutManager extends RecyclerView.LayoutMana
         this.layoutStartAngleInRad = layoutStartAngleInRad;
     }
 
+    /**
+     * Layout start angle extended by the margin which has to be covered
+     * with sectors in case of container rotation.
+     */
+    public final double getSectorsLayoutStartAngleInRad() {
+        return layoutStartAngleInRad + Math.signum(layoutStartAngleInRad - layoutEndAngleInRad) * getContainerRotationMarginInRad();
+    }
+
+    /**
+     * Layout end angle extended by the margin which has to be covered
+     * with sectors in case of container rotation.
+     */
+    public final double getSectorsLayoutEndAngleInRad() {
+        return layoutEndAngleInRad + Math.signum(layoutEndAngleInRad - layoutStartAngleInRad) * getContainerRotationMarginInRad();
+    }
+
+    private double getContainerRotationMarginInRad() {
+        return isContainerRotationEnabled ? angularRestrictions.getSectorHalfAngleInRad() : 0;
+    }
+
+    /**
+     * Has to be configured before wheel's initial layout, so sectors margins are covered.
+     */
+    public final void setContainerRotationEnabled(boolean isContainerRotationEnabled) {
+        settleContainerRotation();
+        this.isContainerRotationEnabled = isContainerRotationEnabled;
+    }
+
+    public final boolean isContainerRotationEnabled() {
+        return isContainerRotationEnabled;
+    }
+
+    /**
+     * Returns rotation which has to be applied to the whole container on top of
+     * sector views' own rotation. Positive angle stands for anticlockwise rotation.
+     */
+    public final double getContainerRotationInRad() {
+        return containerRotationInRad;
+    }
+
+    /**
+     * Returns actual angular position of the sector, taking container rotation into account.
+     */
+    public final double computeSectorAnglePositionInRad(View sectorView) {
+        return computeSectorAngleInRadForPosition(getPosition(sectorView));
+    }
+
+    /**
+     * Transfers pending container rotation to sector views, so they are
+     * rendered and hit tested exactly when wheel is not rotated.
+     */
+    public final void settleContainerRotation() {
+        if (containerRotationInRad != 0) {
+            rebaseSectorViews();
+            invalidateAttachedRecyclerView();
+        }
+    }
+
+    @Override
+    public void onScrollStateChanged(int state) {
+        super.onScrollStateChanged(state);
+        if (state == RecyclerView.SCROLL_STATE_IDLE) {
+            settleContainerRotation();
+        }
+    }
+
+    @Override
+    public void onAttachedToWindow(RecyclerView view) {
+        super.onAttachedToWindow(view);
+        attachedRecyclerView = view;
+        sectorsPrefetcher = new WheelSectorsPrefetcher(view);
+        view.setViewCacheExtension(sectorsPrefetcher);
+    }
+
     @Override
     public void onDetachedFromWindow(RecyclerView view, RecyclerView.Recycler recycler) {
         super.onDetachedFromWindow(view, recycler);
+        attachedRecyclerView = null;
+        sectorsPrefetcher.cancel();
+        sectorsPrefetcher = null;
+        view.setViewCacheExtension(null);
         removeAndRecycleAllViews(recycler);
         recycler.clear();
         startupAnimationListeners.clear();
@@ -250,19 +433,61 @@ public abstract class AbstractWheelLayoutManager extends RecyclerView.LayoutMana
         }
 
         final double absRotationAngleInRad = Math.abs(computationHelper.fromTraveledDistanceToWheelRotationAngle(dy));
+        lastRegularLayoutStartPosition = NOT_DEFINED_ADAPTER_POSITION;
 
         final WheelRotationDirection rotationDirection = WheelRotationDirection.of(dy);
         rotateWheel(absRotationAngleInRad, rotationDirection, recycler, state);
+        scheduleSectorsPrefetch(absRotationAngleInRad, rotationDirection);
 
         return dy;
     }
 
+    @Override
+    public void onAdapterChanged(RecyclerView.Adapter oldAdapter, RecyclerView.Adapter newAdapter) {
+        super.onAdapterChanged(oldAdapter, newAdapter);
+        if (sectorsPrefetcher != null) {
+            sectorsPrefetcher.clear();
+        }
+    }
+
+    /**
+     * Angles increase with adapter positions, so while wheel is rotated clockwise sectors are
+     * added after the greatest attached position and before the least one otherwise.
+     * The faster wheel is rotated the more sectors are prefetched.
+     */
+    private void scheduleSectorsPrefetch(double absRotationAngleInRad, WheelRotationDirection rotationDirection) {
+        if (sectorsPrefetcher == null || getChildCount() == 0) {
+            return;
+        }
+
+        int minAttachedPosition = Integer.MAX_VALUE;
+        int maxAttachedPosition = Integer.MIN_VALUE;
+        for (int i = 0; i < getChildCount(); i++) {
+            final int position = getPosition(getChildAt(i));
+            minAttachedPosition = Math.min(minAttachedPosition, position);
+            maxAttachedPosition = Math.max(maxAttachedPosition, position);
+        }
+
+        final int sectorsAmountToPrefetch = Math.max(1, Math.min(
+                MAX_PREFETCHED_SECTORS_AMOUNT,
+                (int) Math.ceil(PREFETCH_LOOKAHEAD_FRAMES_AMOUNT * absRotationAngleInRad / angularRestrictions.getSectorAngleInRad())
+        ));
+
+        if (rotationDirection == WheelRotationDirection.Clockwise) {
+            sectorsPrefetcher.schedulePrefetch(maxAttachedPosition + 1, 1, sectorsAmountToPrefetch);
+        } else {
+            sectorsPrefetcher.schedulePrefetch(minAttachedPosition - 1, -1, sectorsAmountToPrefetch);
+        }
+    }
+
     private void rotateWheel(double rotationAngleInRad, WheelRotationDirection rotationDirection,
                              RecyclerView.Recycler recycler, RecyclerView.State state) {
         final AbstractWheelRotator wheelRotator = rotationDirection == WheelRotationDirection.Clockwise ?
                 clockwiseRotator : anticlockwiseRotator;
-        wheelRotator.rotateWheelBy(rotationAngleInRad);
-        wheelRotator.recycleAndAddSectors(recycler, state);
+        final boolean isSectorViewsRebased = wheelRotator.rotateWheelBy(rotationAngleInRad);
+        if (isSectorViewsRebased) {
+            wheelRotator.recycleAndAddSectors(recycler, state);
+        }
     }
 
 
@@ -331,24 +556,100 @@ public abstract class AbstractWheelLayoutManager extends RecyclerView.LayoutMana
     }
 
 
-    public final void setupSectorForPosition(RecyclerView.Recycler recycler,
-                                             int positionIndex, double angularPositionInRad,
-                                             boolean isAddViewToBottom) {
+    /**
+     * Resets wheel rotation state - sector at {@code basePosition} will be placed at
+     * {@code basePositionAngleInRad} and all others after it with sector angle step.
+     */
+    protected final void resetPhase(int basePosition, double basePositionAngleInRad) {
+        this.basePosition = basePosition;
+        this.phaseInRad = basePositionAngleInRad;
+    }
+
+    public final double getPhaseInRad() {
+        return phaseInRad;
+    }
+
+    public final double computeSectorAngleInRadForPosition(int adapterPosition) {
+        return phaseInRad + (adapterPosition - basePosition) * angularRestrictions.getSectorAngleInRad();
+    }
+
+    /**
+     * Returns adapter position of the sector with the greatest angular position which is
+     * still less than {@code angleInRad} for the wheel rotated to {@code phaseInRad}.
+     */
+    public final int computeAdapterPositionOfSectorBelowAngle(double angleInRad, double phaseInRad) {
+        final double sectorAngleInRad = angularRestrictions.getSectorAngleInRad();
+        return basePosition + (int) Math.ceil((angleInRad - phaseInRad) / sectorAngleInRad) - 1;
+    }
+
+    /**
+     * Rotates the wheel - positive angle stands for anticlockwise rotation.
+     * Only state update and one rotation per sector view are done here.
+     * In case of container rotation sector views are touched only when accumulated
+     * container rotation exceeds half of sector angle.
+     *
+     * @return {@code true} if sector views have been re-based to the new rotation state,
+     * so sectors adding and recycling have to be done
+     */
+    public final boolean rotatePhaseBy(double rotationAngleInRad) {
+        phaseInRad += rotationAngleInRad;
+
+        // whole sectors are moved into base position in order to keep phase small
+        final double sectorAngleInRad = angularRestrictions.getSectorAngleInRad();
+        final int wholeSectorsAmount = (int) Math.round(phaseInRad / sectorAngleInRad);
+        if (wholeSectorsAmount != 0) {
+            basePosition -= wholeSectorsAmount;
+            phaseInRad -= wholeSectorsAmount * sectorAngleInRad;
+        }
+
+        if (isContainerRotationEnabled) {
+            containerRotationInRad += rotationAngleInRad;
+            invalidateAttachedRecyclerView();
+            if (Math.abs(containerRotationInRad) <= angularRestrictions.getSectorHalfAngleInRad()) {
+                return false;
+            }
+        }
+
+        rebaseSectorViews();
+        return true;
+    }
+
+    private void rebaseSectorViews() {
+        containerRotationInRad = 0;
+        for (int i = 0; i < getChildCount(); i++) {
+            final View sectorView = getChildAt(i);
+            final LayoutParams sectorViewLp = getChildLayoutParams(sectorView);
+            sectorViewLp.anglePositionInRad = computeSectorAngleInRadForPosition(getPosition(sectorView));
+            alignBigWrapperViewByAngle(sectorView, -computeSectorViewRotationAngleInRad(sectorViewLp.anglePositionInRad));
+        }
+    }
+
+    private void invalidateAttachedRecyclerView() {
+        if (attachedRecyclerView != null) {
+            FrameAnimationClock.getInstance().invalidate(attachedRecyclerView);
+        }
+    }
+
+    /**
+     * Lays out sector for {@code positionIndex} at angular position derived from current wheel phase.
+     */
+    public final void setupSectorForPosition(RecyclerView.Recycler recycler, int positionIndex, boolean isAddViewToBottom) {
+        final double angularPositionInRad = computeSectorAngleInRadForPosition(positionIndex);
 
         final WheelBigWrapperView bigWrapperView = (WheelBigWrapperView) recycler.getViewForPosition(positionIndex);
-        measureBigWrapperView(bigWrapperView);
+        measureBigWrapperViewIfNeeded(bigWrapperView);
 
-        RectF wrViewCoordsInCircleSystem = computationHelper.getBigWrapperViewCoordsInCircleSystem(bigWrapperView.getMeasuredWidth());
-        RectF wrTransformedCoords = WheelComputationHelper.fromCircleCoordsSystemToRecyclerViewCoordsSystem(
-                wrViewCoordsInCircleSystem
-        );
+        final RectF wrTransformedCoords = bigWrapperViewCoordsBuffer;
+        computationHelper.getBigWrapperViewCoordsInCircleSystem(bigWrapperView.getMeasuredWidth(), wrTransformedCoords);
+        WheelComputationHelper.fromCircleCoordsSystemToRecyclerViewCoordsSystem(wrTransformedCoords, wrTransformedCoords);
 
         bigWrapperView.layout(
                 (int) wrTransformedCoords.left, (int) wrTransformedCoords.top,
                 (int) wrTransformedCoords.right, (int) wrTransformedCoords.bottom
         );
 
-        alignBigWrapperViewByAngle(bigWrapperView, -angularPositionInRad);
+        initBigWrapperViewTransformation(bigWrapperView);
+        alignBigWrapperViewByAngle(bigWrapperView, -computeSectorViewRotationAngleInRad(angularPositionInRad));
 
         LayoutParams lp = (LayoutParams) bigWrapperView.getLayoutParams();
         lp.anglePositionInRad = angularPositionInRad;
@@ -360,19 +661,43 @@ public abstract class AbstractWheelLayoutManager extends RecyclerView.LayoutMana
         }
     }
 
-    private void measureBigWrapperView(View bigWrapperView) {
+    /**
+     * Returns angle which sector view has to be rotated to for {@code anglePositionInRad}.
+     * By default view is rotated exactly to sector's angular position.
+     */
+    protected double computeSectorViewRotationAngleInRad(double anglePositionInRad) {
+        return anglePositionInRad;
+    }
+
+    /**
+     * Sector views reused from scrap already have required size - so measure pass
+     * is done only for new views or when measurements have been changed.
+     */
+    private void measureBigWrapperViewIfNeeded(View bigWrapperView) {
         final int viewWidth = computationHelper.getBigWrapperViewMeasurements().getWidth();
         final int viewHeight = computationHelper.getBigWrapperViewMeasurements().getHeight();
+        if (!bigWrapperView.isLayoutRequested()
+                && bigWrapperView.getMeasuredWidth() == viewWidth
+                && bigWrapperView.getMeasuredHeight() == viewHeight) {
+            return;
+        }
 
         final int childWidthSpec = View.MeasureSpec.makeMeasureSpec(viewWidth, View.MeasureSpec.EXACTLY);
         final int childHeightSpec = View.MeasureSpec.makeMeasureSpec(viewHeight, View.MeasureSpec.EXACTLY);
         bigWrapperView.measure(childWidthSpec, childHeightSpec);
     }
 
-    public final void alignBigWrapperViewByAngle(View bigWrapperView, double angleAlignToInRad) {
+    /**
+     * Translation and pivot don't depend on rotation angle - so they are set only once
+     * when sector is laid out.
+     */
+    private void initBigWrapperViewTransformation(View bigWrapperView) {
         bigWrapperView.setTranslationX(wheelConfig.getInnerRadius());
         bigWrapperView.setPivotX(-wheelConfig.getInnerRadius());
         bigWrapperView.setPivotY(bigWrapperView.getMeasuredHeight() / 2);
+    }
+
+    public final void alignBigWrapperViewByAngle(View bigWrapperView, double angleAlignToInRad) {
         float angleInDegree = (float) WheelComputationHelper.radToDegree(angleAlignToInRad);
 
         // TODO: WheelOfFortune 16.12.2016 ugly bug fix related to central view disappearing while scrolling
@@ -393,28 +718,41 @@ public abstract class AbstractWheelLayoutManager extends RecyclerView.LayoutMana
         return false;
     }
 
+    /**
+     * Lays out the wheel starting from {@code positionToScroll} - the same way as it's done
+     * for the initial layout. Only start position is changed here, no matter how far it is
+     * from the current one, and wheel is laid out once on the next layout pass.
+     */
     @Override
     public void scrollToPosition(int positionToScroll) {
-        throw new UnsupportedOperationException("Not implemented feature yet.");
+        setStartLayoutFromAdapterPosition(positionToScroll);
+        requestLayout();
     }
 
+    /**
+     * Rotates the wheel with one smooth scroll so sector at {@code position} takes the place
+     * where {@link #scrollToPosition(int)} would put it. Rotation is done by whole sectors,
+     * so wheel's alignment is kept. Angular distance is computed directly from the phase.
+     */
     @Override
     public void smoothScrollToPosition(RecyclerView recyclerView, RecyclerView.State state, int position) {
-//        throw new UnsupportedOperationException("Not implemented feature yet.");
-
-        final double targetSeekScrollDistanceInRad = wheelConfig.getAngularRestrictions().getSectorAngleInRad() / 10;
-        final WheelSmoothScroller wheelScroller = new WheelSmoothScroller(recyclerView.getContext(),
-                this, computationHelper, targetSeekScrollDistanceInRad) {
-            @Override
-            protected WheelRotationDirection computeRotationDirectionForPosition(int targetPosition) {
-                // detect rotation direction
-                final int referenceSectorViewVirtualAdapterPosition = getPosition(getChildClosestToLayoutEndEdge());
-                return targetPosition < referenceSectorViewVirtualAdapterPosition ?
-                        WheelRotationDirection.Clockwise : WheelRotationDirection.Anticlockwise;
-            }
-        };
-        wheelScroller.setTargetPosition(position);
-        startSmoothScroll(wheelScroller);
+        final double rotationAngleInRad = computeRotationAngleInRadToStartLayoutFromPosition(position);
+        // positive scroll distance stands for anticlockwise rotation
+        final int distanceToTravel = (int) Math.round(computationHelper.fromWheelRotationAngleToTraveledDistance(rotationAngleInRad));
+        if (distanceToTravel != 0) {
+            recyclerView.smoothScrollBy(0, distanceToTravel);
+        }
+    }
+
+    /**
+     * Returns rotation angle (positive for anticlockwise rotation) which moves sector at
+     * {@code position} by whole sectors to the closest place to its regular layout angle.
+     */
+    public final double computeRotationAngleInRadToStartLayoutFromPosition(int position) {
+        final int sectorsShift = computationHelper.getTrigonometryTable().toSectorsShift(
+                computeSectorAngleInRadForPosition(position), computeStartLayoutSectorAngleInRad()
+        );
+        return sectorsShift * angularRestrictions.getSectorAngleInRad();
     }
 
     @Override
@@ -1,11 +1,10 @@
 package com.magicepg.wheel.layout;
 
-import android.animation.Animator;
-import android.animation.AnimatorListenerAdapter;
-import android.animation.ValueAnimator;
 import android.content.Context;
 import android.support.v7.widget.RecyclerView;
+import android.view.View;
 
+import com.magicepg.animation.FrameAnimation;
 import com.magicepg.wheel.rotator.AbstractWheelRotator;
 import com.magicepg.wheel.rotator.BottomAnticlockwiseWheelRotator;
 import com.magicepg.wheel.rotator.BottomClockwiseWheelRotator;
@@ -37,6 +36,13 @@ public final class BottomWheelLayoutManager extends AbstractWheelLayoutManager {
         return wheelConfig.getAngularRestrictions().getWheelBottomEdgeAngleRestrictionInRad();
     }
 
+    @Override
+    protected double computeStartLayoutSectorAngleInRad() {
+        return computationHelper.getSectorAlignmentAngleInRadBySectorTopEdge(
+                angularRestrictions.getGapAreaBottomEdgeAngleRestrictionInRad()
+        );
+    }
+
     @Override
     protected AbstractWheelRotator createClockwiseRotator() {
         return new BottomClockwiseWheelRotator(this, computationHelper);
@@ -49,7 +55,6 @@ public final class BottomWheelLayoutManager extends AbstractWheelLayoutManager {
 
     @Override
     protected int onLayoutChildrenForStartupAnimation(RecyclerView.Recycler recycler, RecyclerView.State state) {
-        final double sectorAngleInRad = angularRestrictions.getSectorAngleInRad();
         final double bottomLimitAngle = getLayoutEndAngleInRad();
 
         double layoutAngle = computationHelper.getSectorAlignmentAngleInRadBySectorTopEdge(
@@ -57,14 +62,15 @@ public final class BottomWheelLayoutManager extends AbstractWheelLayoutManager {
         );
 
         int childPos = getStartLayoutFromAdapterPosition();
+        resetPhase(childPos, layoutAngle);
         int layoutedChildrenCount = 0;
         boolean isInsideLayoutBounds = computationHelper.getSectorAngleTopEdgeInRad(layoutAngle) > bottomLimitAngle;
         while (isInsideLayoutBounds && layoutedChildrenCount < state.getItemCount()) {
-            setupSectorForPosition(recycler, childPos, layoutAngle, true);
-            layoutAngle -= sectorAngleInRad;
+            setupSectorForPosition(recycler, childPos, true);
+            childPos--;
+            layoutAngle = computeSectorAngleInRadForPosition(childPos);
             isInsideLayoutBounds = computationHelper.getSectorAngleTopEdgeInRad(layoutAngle) > bottomLimitAngle;
             layoutedChildrenCount++;
-            childPos--;
         }
 
         return childPos;
@@ -76,21 +82,21 @@ public final class BottomWheelLayoutManager extends AbstractWheelLayoutManager {
         final double startLayoutAngleInRad = angularRestrictions.getGapAreaBottomEdgeAngleRestrictionInRad();
         setLayoutStartAngleInRad(startLayoutAngleInRad);
 
-        final double sectorAngleInRad = wheelConfig.getAngularRestrictions().getSectorAngleInRad();
         final double bottomLimitAngle = getLayoutEndAngleInRad();
 
-        double layoutAngle = computationHelper.getSectorAlignmentAngleInRadBySectorTopEdge(startLayoutAngleInRad);
+        double layoutAngle = computeStartLayoutSectorAngleInRad();
 
         int childPos = getStartLayoutFromAdapterPosition();
+        resetPhase(childPos, layoutAngle);
         int layoutedChildrenCount = 0;
         // when sector's top edge goes outside bottom edge layout angle - then stop children layout
         boolean isInsideLayoutBounds = computationHelper.getSectorAngleTopEdgeInRad(layoutAngle) > bottomLimitAngle;
         while (isInsideLayoutBounds && layoutedChildrenCount < state.getItemCount()) {
-            setupSectorForPosition(recycler, childPos, layoutAngle, true);
-            layoutAngle -= sectorAngleInRad;
+            setupSectorForPosition(recycler, childPos, true);
+            childPos--;
+            layoutAngle = computeSectorAngleInRadForPosition(childPos);
             isInsideLayoutBounds = computationHelper.getSectorAngleTopEdgeInRad(layoutAngle) > bottomLimitAngle;
             layoutedChildrenCount++;
-            childPos--;
         }
 
         return childPos;
@@ -102,43 +108,42 @@ public final class BottomWheelLayoutManager extends AbstractWheelLayoutManager {
     }
 
     @Override
-    protected Animator createWheelStartupAnimator(final RecyclerView.Recycler recycler, final RecyclerView.State state) {
-        final LayoutParams childClosestToLayoutStartEdgeLp = getChildLayoutParams(getChildClosestToLayoutStartEdge());
+    protected FrameAnimation createWheelStartupAnimation(final RecyclerView.Recycler recycler, final RecyclerView.State state) {
+        final View childClosestToLayoutStartEdge = getChildClosestToLayoutStartEdge();
 
-        final float fromAngleInRad = (float) childClosestToLayoutStartEdgeLp.anglePositionInRad;
+        final float fromAngleInRad = (float) computeSectorAnglePositionInRad(childClosestToLayoutStartEdge);
         final float toAngleInRad = (float) computationHelper.getSectorAlignmentAngleInRadBySectorTopEdge(
                 angularRestrictions.getGapAreaBottomEdgeAngleRestrictionInRad()
         );
 
-        final ValueAnimator wheelStartupAnimator = ValueAnimator.ofFloat(fromAngleInRad, toAngleInRad);
+        final FrameAnimation wheelStartupAnimation = new FrameAnimation();
+        wheelStartupAnimation.setFloatValues(fromAngleInRad, toAngleInRad);
 
-        wheelStartupAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
+        wheelStartupAnimation.addListener(new FrameAnimation.ListenerAdapter() {
             @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                final float firstChildAnglePositionInRad = (float) childClosestToLayoutStartEdgeLp.anglePositionInRad;
-                final float currentlyAnimatedAngleInRad = (Float) animation.getAnimatedValue();
+            public void onAnimationStart(FrameAnimation animation) {
+                notifyOnAnimationUpdate(WheelStartupAnimationStatus.Start);
+            }
+
+            @Override
+            public void onAnimationUpdate(FrameAnimation animation) {
+                final float firstChildAnglePositionInRad = (float) computeSectorAnglePositionInRad(childClosestToLayoutStartEdge);
+                final float currentlyAnimatedAngleInRad = animation.getAnimatedValue();
 
                 final double rotationDeltaInRad = firstChildAnglePositionInRad - currentlyAnimatedAngleInRad;
                 clockwiseRotator.rotateWheelBy(rotationDeltaInRad);
                 notifyOnAnimationUpdate(WheelStartupAnimationStatus.InProgress);
             }
-        });
-
-        wheelStartupAnimator.addListener(new AnimatorListenerAdapter() {
-            @Override
-            public void onAnimationStart(Animator animation) {
-                notifyOnAnimationUpdate(WheelStartupAnimationStatus.Start);
-            }
 
             @Override
-            public void onAnimationEnd(Animator animation) {
+            public void onAnimationEnd(FrameAnimation animation) {
                 notifyOnAnimationUpdate(WheelStartupAnimationStatus.Finished);
             }
         });
 
-        wheelStartupAnimator.setDuration(BOTTOM_WHEEL_STARTUP_ANIMATION_DURATION);
+        wheelStartupAnimation.setDuration(BOTTOM_WHEEL_STARTUP_ANIMATION_DURATION);
 
-        return wheelStartupAnimator;
+        return wheelStartupAnimation;
     }
 
 }
@@ -0,0 +1,171 @@
+package com.magicepg.wheel.layout;
+
+import android.content.Context;
+import android.support.v7.widget.RecyclerView;
+
+import com.magicepg.animation.FrameAnimation;
+import com.magicepg.wheel.WheelComputationHelper;
+import com.magicepg.wheel.rotator.AbstractWheelRotator;
+import com.magicepg.wheel.rotator.TopAnticlockwiseWheelRotator;
+import com.magicepg.wheel.rotator.TopClockwiseWheelRotator;
+
+/**
+ * Does children layout for the whole wheel's ring - both top and bottom parts - in one pass.
+ * <p>
+ * Sectors are positioned in top part's angular coordinates: sectors with larger adapter
+ * positions go counterclockwise above the gap. Bottom part is the same ring continued
+ * below the gap - i.e. each angle there is shifted by {@link #getBottomPartAngleShiftInRad()}.
+ * So from layout point of view the wheel is a single angular range
+ * [wheel's bottom edge - bottom part angle shift; wheel's top edge].
+ * Which part of the ring a sector is drawn in is decided by
+ * {@link com.magicepg.wheel.widget.CircularWheelRecyclerView}.
+ *
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+public final class CircularWheelLayoutManager extends AbstractWheelLayoutManager {
+
+    public CircularWheelLayoutManager(Context context,
+                                      WheelComputationHelper computationHelper,
+                                      WheelOnInitialLayoutFinishingListener initialLayoutFinishingListener) {
+        super(context, computationHelper, initialLayoutFinishingListener);
+    }
+
+    /**
+     * Bottom part is laid out from the sector preceding the top part's start sector, aligned by
+     * its top edge with the gap's bottom edge. So angle of any sector in bottom part is its angle
+     * in top part's coordinates plus this (negative) shift.
+     */
+    public double getBottomPartAngleShiftInRad() {
+        final double bottomPartStartSectorAngleInRad = computationHelper.getSectorAlignmentAngleInRadBySectorTopEdge(
+                angularRestrictions.getGapAreaBottomEdgeAngleRestrictionInRad()
+        );
+        final double topPartPrecedingSectorAngleInRad = computeStartLayoutSectorAngleInRad() - angularRestrictions.getSectorAngleInRad();
+        return bottomPartStartSectorAngleInRad - topPartPrecedingSectorAngleInRad;
+    }
+
+    /**
+     * Sector is drawn in top part when at least some of it is above the gap's top edge.
+     */
+    public boolean isSectorVisibleInTopPart(double sectorAnglePositionInRad) {
+        return computationHelper.getSectorAngleTopEdgeInRad(sectorAnglePositionInRad)
+                > angularRestrictions.getGapAreaTopEdgeAngleRestrictionInRad();
+    }
+
+    /**
+     * Sector is drawn in bottom part when at least some of it is below the gap's bottom edge.
+     */
+    public boolean isSectorVisibleInBottomPart(double sectorAnglePositionInRad) {
+        return computationHelper.getSectorAngleBottomEdgeInRad(sectorAnglePositionInRad + getBottomPartAngleShiftInRad())
+                < angularRestrictions.getGapAreaBottomEdgeAngleRestrictionInRad();
+    }
+
+    /**
+     * Sector view is rotated into the part where it's visible, so it's hit tested there.
+     * Sector crossing the gap is rotated into top part.
+     */
+    @Override
+    protected double computeSectorViewRotationAngleInRad(double anglePositionInRad) {
+        return isSectorVisibleInTopPart(anglePositionInRad) ?
+                anglePositionInRad : (anglePositionInRad + getBottomPartAngleShiftInRad());
+    }
+
+    @Override
+    protected double computeLayoutStartAngleInRad() {
+        return angularRestrictions.getWheelBottomEdgeAngleRestrictionInRad() - getBottomPartAngleShiftInRad();
+    }
+
+    @Override
+    protected double computeLayoutEndAngleInRad() {
+        return angularRestrictions.getWheelTopEdgeAngleRestrictionInRad();
+    }
+
+    /**
+     * The same as for top part, so start position means the same for both wheel modes.
+     */
+    @Override
+    protected double computeStartLayoutSectorAngleInRad() {
+        return angularRestrictions.getGapAreaTopEdgeAngleRestrictionInRad();
+    }
+
+    /**
+     * Angles increase with adapter positions along the whole ring - exactly as in top part.
+     */
+    @Override
+    protected AbstractWheelRotator createClockwiseRotator() {
+        return new TopClockwiseWheelRotator(this, computationHelper);
+    }
+
+    @Override
+    protected AbstractWheelRotator createAnticlockwiseRotator() {
+        return new TopAnticlockwiseWheelRotator(this, computationHelper);
+    }
+
+    /**
+     * Ring doesn't have a dedicated startup animation - it's laid out in place.
+     */
+    @Override
+    protected int onLayoutChildrenForStartupAnimation(RecyclerView.Recycler recycler, RecyclerView.State state) {
+        return onLayoutChildrenRegular(recycler, state);
+    }
+
+    @Override
+    protected int onLayoutChildrenRegular(RecyclerView.Recycler recycler, RecyclerView.State state) {
+        resetPhase(getStartLayoutFromAdapterPosition(), computeStartLayoutSectorAngleInRad());
+
+        final double startLayoutAngleInRad = getSectorsLayoutStartAngleInRad();
+        final double endLayoutAngleInRad = getSectorsLayoutEndAngleInRad();
+
+        // the first sector is the one which top edge is above layout start edge
+        int childPos = computeAdapterPositionOfSectorBelowAngle(
+                computationHelper.getSectorAlignmentAngleInRadBySectorTopEdge(startLayoutAngleInRad), getPhaseInRad()
+        ) + 1;
+        int layoutedChildrenCount = 0;
+        boolean isInsideLayoutBounds = computationHelper.getSectorAngleBottomEdgeInRad(
+                computeSectorAngleInRadForPosition(childPos)
+        ) < endLayoutAngleInRad;
+        while (isInsideLayoutBounds && layoutedChildrenCount < state.getItemCount()) {
+            setupSectorForPosition(recycler, childPos, true);
+            childPos++;
+            isInsideLayoutBounds = computationHelper.getSectorAngleBottomEdgeInRad(
+                    computeSectorAngleInRadForPosition(childPos)
+            ) < endLayoutAngleInRad;
+            layoutedChildrenCount++;
+        }
+
+        return childPos;
+    }
+
+    /**
+     * Nothing depends on the ring's layout, so listener is optional here.
+     */
+    @Override
+    protected void notifyLayoutFinishingListener(int lastlyLayoutedChildPos) {
+        if (initialLayoutFinishingListener != null) {
+            initialLayoutFinishingListener.onInitialLayoutFinished(lastlyLayoutedChildPos);
+        }
+    }
+
+    /**
+     * Instant animation - only startup animation statuses are dispatched.
+     */
+    @Override
+    protected FrameAnimation createWheelStartupAnimation(RecyclerView.Recycler recycler, RecyclerView.State state) {
+        final FrameAnimation wheelStartupAnimation = new FrameAnimation();
+        wheelStartupAnimation.setFloatValues(0, 1);
+        wheelStartupAnimation.addListener(new FrameAnimation.ListenerAdapter() {
+            @Override
+            public void onAnimationStart(FrameAnimation animation) {
+                notifyOnAnimationUpdate(WheelStartupAnimationStatus.Start);
+            }
+
+            @Override
+            public void onAnimationEnd(FrameAnimation animation) {
+                notifyOnAnimationUpdate(WheelStartupAnimationStatus.Finished);
+            }
+        });
+        wheelStartupAnimation.setDuration(0);
+        return wheelStartupAnimation;
+    }
+
+}
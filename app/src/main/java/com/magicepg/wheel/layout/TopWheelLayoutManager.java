@@ -1,11 +1,10 @@
 package com.magicepg.wheel.layout;
 
-import android.animation.Animator;
-import android.animation.AnimatorListenerAdapter;
-import android.animation.ValueAnimator;
 import android.content.Context;
 import android.support.v7.widget.RecyclerView;
+import android.view.View;
 
+import com.magicepg.animation.FrameAnimation;
 import com.magicepg.wheel.rotator.AbstractWheelRotator;
 import com.magicepg.wheel.rotator.TopAnticlockwiseWheelRotator;
 import com.magicepg.wheel.rotator.TopClockwiseWheelRotator;
@@ -52,6 +51,11 @@ public final class TopWheelLayoutManager extends AbstractWheelLayoutManager {
         return angularRestrictions.getWheelTopEdgeAngleRestrictionInRad();
     }
 
+    @Override
+    protected double computeStartLayoutSectorAngleInRad() {
+        return angularRestrictions.getGapAreaTopEdgeAngleRestrictionInRad();
+    }
+
     @Override
     protected AbstractWheelRotator createClockwiseRotator() {
         return new TopClockwiseWheelRotator(this, computationHelper);
@@ -70,18 +74,18 @@ public final class TopWheelLayoutManager extends AbstractWheelLayoutManager {
         final double additionalDeltaAngleInRad = wheelTopEdgeAngleRestrictionInRad - angularRestrictions.getGapAreaTopEdgeAngleRestrictionInRad();
         final double topLimitAngleInRad = wheelTopEdgeAngleRestrictionInRad + additionalDeltaAngleInRad;
 
-        final double sectorAngleInRad = angularRestrictions.getSectorAngleInRad();
         double layoutAngle = computationHelper.getSectorAlignmentAngleInRadBySectorTopEdge(wheelTopEdgeAngleRestrictionInRad);
 
         int childPos = getStartLayoutFromAdapterPosition();
+        resetPhase(childPos, layoutAngle);
         int layoutedChildrenCount = 0;
         boolean isInsideLayoutBounds = computationHelper.getSectorAngleBottomEdgeInRad(layoutAngle) < topLimitAngleInRad;
         while (isInsideLayoutBounds && layoutedChildrenCount < state.getItemCount()) {
-            setupSectorForPosition(recycler, childPos, layoutAngle, true);
-            layoutAngle += sectorAngleInRad;
+            setupSectorForPosition(recycler, childPos, true);
+            childPos++;
+            layoutAngle = computeSectorAngleInRadForPosition(childPos);
             isInsideLayoutBounds = computationHelper.getSectorAngleTopEdgeInRad(layoutAngle) < topLimitAngleInRad;
             layoutedChildrenCount++;
-            childPos++;
         }
 
         return childPos;
@@ -93,20 +97,20 @@ public final class TopWheelLayoutManager extends AbstractWheelLayoutManager {
         final double startLayoutAngleInRad = angularRestrictions.getGapAreaTopEdgeAngleRestrictionInRad();
         setLayoutStartAngleInRad(startLayoutAngleInRad);
 
-        final double sectorAngleInRad = angularRestrictions.getSectorAngleInRad();
         final double topLimitAngle = angularRestrictions.getWheelTopEdgeAngleRestrictionInRad();
 
-        double layoutAngle = startLayoutAngleInRad;
+        double layoutAngle = computeStartLayoutSectorAngleInRad();
 
         int childPos = getStartLayoutFromAdapterPosition();
+        resetPhase(childPos, layoutAngle);
         int layoutedChildrenCount = 0;
         boolean isInsideLayoutBounds = computationHelper.getSectorAngleBottomEdgeInRad(layoutAngle) < topLimitAngle;
         while (isInsideLayoutBounds && layoutedChildrenCount < state.getItemCount()) {
-            setupSectorForPosition(recycler, childPos, layoutAngle, true);
-            layoutAngle += sectorAngleInRad;
+            setupSectorForPosition(recycler, childPos, true);
+            childPos++;
+            layoutAngle = computeSectorAngleInRadForPosition(childPos);
             isInsideLayoutBounds = computationHelper.getSectorAngleTopEdgeInRad(layoutAngle) < topLimitAngle;
             layoutedChildrenCount++;
-            childPos++;
         }
 
         return childPos;
@@ -118,44 +122,43 @@ public final class TopWheelLayoutManager extends AbstractWheelLayoutManager {
     }
 
     @Override
-    protected Animator createWheelStartupAnimator(final RecyclerView.Recycler recycler, final RecyclerView.State state) {
+    protected FrameAnimation createWheelStartupAnimation(final RecyclerView.Recycler recycler, final RecyclerView.State state) {
 
-        final LayoutParams childClosestToLayoutEndEdgeLp = getChildLayoutParams(getChildClosestToLayoutEndEdge());
+        final View childClosestToLayoutEndEdge = getChildClosestToLayoutEndEdge();
 
-        final float fromAngleInRad = (float) childClosestToLayoutEndEdgeLp.anglePositionInRad;
+        final float fromAngleInRad = (float) computeSectorAnglePositionInRad(childClosestToLayoutEndEdge);
         final float toAngleInRad = (float) (angularRestrictions.getWheelTopEdgeAngleRestrictionInRad()
                 - angularRestrictions.getSectorHalfAngleInRad()
         );
 
-        final ValueAnimator startupWheelAnimator = ValueAnimator.ofFloat(fromAngleInRad, toAngleInRad);
+        final FrameAnimation startupWheelAnimation = new FrameAnimation();
+        startupWheelAnimation.setFloatValues(fromAngleInRad, toAngleInRad);
 
-        startupWheelAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
+        startupWheelAnimation.addListener(new FrameAnimation.ListenerAdapter() {
             @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                final float lastChildAnglePositionInRad = (float) childClosestToLayoutEndEdgeLp.anglePositionInRad;
-                final float currentlyAnimatedAngleInRad = (Float) animation.getAnimatedValue();
+            public void onAnimationStart(FrameAnimation animation) {
+                notifyOnAnimationUpdate(WheelStartupAnimationStatus.Start);
+            }
+
+            @Override
+            public void onAnimationUpdate(FrameAnimation animation) {
+                final float lastChildAnglePositionInRad = (float) computeSectorAnglePositionInRad(childClosestToLayoutEndEdge);
+                final float currentlyAnimatedAngleInRad = animation.getAnimatedValue();
 
                 final double rotationDeltaInRad = lastChildAnglePositionInRad - currentlyAnimatedAngleInRad;
                 clockwiseRotator.rotateWheelBy(rotationDeltaInRad);
                 notifyOnAnimationUpdate(WheelStartupAnimationStatus.InProgress);
             }
-        });
-
-        startupWheelAnimator.addListener(new AnimatorListenerAdapter() {
-            @Override
-            public void onAnimationStart(Animator animation) {
-                notifyOnAnimationUpdate(WheelStartupAnimationStatus.Start);
-            }
 
             @Override
-            public void onAnimationEnd(Animator animation) {
+            public void onAnimationEnd(FrameAnimation animation) {
                 notifyOnAnimationUpdate(WheelStartupAnimationStatus.Finished);
             }
         });
 
-        startupWheelAnimator.setDuration(TOP_WHEEL_STARTUP_ANIMATION_DURATION);
+        startupWheelAnimation.setDuration(TOP_WHEEL_STARTUP_ANIMATION_DURATION);
 
-        return startupWheelAnimator;
+        return startupWheelAnimation;
     }
 
 }
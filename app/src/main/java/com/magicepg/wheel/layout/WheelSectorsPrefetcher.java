@@ -0,0 +1,184 @@
+package com.magicepg.wheel.layout;
+
+import android.content.Context;
+import android.support.v7.widget.RecyclerView;
+import android.util.SparseArray;
+import android.view.Choreographer;
+import android.view.View;
+import android.view.WindowManager;
+
+import com.magicepg.image.ImageLoadingScheduler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates and binds sector views which are going to be added by wheel's rotators next,
+ * while main thread is idle between frames. Prefetched views are kept in a warm cache
+ * which is consulted by {@link RecyclerView.Recycler} before views pool and inflation,
+ * so rotators get them already bound.
+ * <p>
+ * Prefetching is done only within remaining time of the current frame - once frame's
+ * deadline is reached, the rest of positions is postponed to the next frame.
+ *
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+final class WheelSectorsPrefetcher extends RecyclerView.ViewCacheExtension {
+
+    private static final float DEFAULT_REFRESH_RATE = 60f;
+
+    private final RecyclerView recyclerView;
+    private final long frameIntervalInNanos;
+
+    /**
+     * Prefetched view holders by their adapter positions.
+     */
+    private final SparseArray<RecyclerView.ViewHolder> warmSectorViewHolders = new SparseArray<>();
+
+    private int firstPositionToPrefetch;
+    private int positionsStep;
+    private int positionsAmountToPrefetch;
+
+    private boolean isPrefetchScheduled;
+    private long frameTimeInNanos;
+
+    private final Choreographer.FrameCallback frameStartCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            frameTimeInNanos = frameTimeNanos;
+            // is run once current frame's layout and drawing are done
+            recyclerView.post(prefetchTask);
+        }
+    };
+
+    private final Runnable prefetchTask = new Runnable() {
+        @Override
+        public void run() {
+            isPrefetchScheduled = false;
+            prefetchWithinDeadline(frameTimeInNanos + frameIntervalInNanos);
+        }
+    };
+
+    WheelSectorsPrefetcher(RecyclerView recyclerView) {
+        this.recyclerView = recyclerView;
+        this.frameIntervalInNanos = computeFrameIntervalInNanos(recyclerView.getContext());
+    }
+
+    private static long computeFrameIntervalInNanos(Context context) {
+        final WindowManager windowManager = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
+        float refreshRate = windowManager.getDefaultDisplay().getRefreshRate();
+        if (refreshRate < DEFAULT_REFRESH_RATE / 2) {
+            refreshRate = DEFAULT_REFRESH_RATE;
+        }
+        return (long) (TimeUnit.SECONDS.toNanos(1) / refreshRate);
+    }
+
+    /**
+     * Requests prefetching of {@code positionsAmount} positions starting from {@code fromPosition}
+     * with {@code step} (+1 or -1). Previously prefetched views outside of this range are released.
+     */
+    void schedulePrefetch(int fromPosition, int step, int positionsAmount) {
+        firstPositionToPrefetch = fromPosition;
+        positionsStep = step;
+        positionsAmountToPrefetch = positionsAmount;
+
+        if (!isPrefetchScheduled) {
+            isPrefetchScheduled = true;
+            Choreographer.getInstance().postFrameCallback(frameStartCallback);
+        }
+    }
+
+    /**
+     * Releases all prefetched views - they might be bound to stale data or positions.
+     */
+    void clear() {
+        for (int i = 0; i < warmSectorViewHolders.size(); i++) {
+            releaseViewHolder(warmSectorViewHolders.valueAt(i));
+        }
+        warmSectorViewHolders.clear();
+    }
+
+    void cancel() {
+        if (isPrefetchScheduled) {
+            isPrefetchScheduled = false;
+            Choreographer.getInstance().removeFrameCallback(frameStartCallback);
+            recyclerView.removeCallbacks(prefetchTask);
+        }
+        clear();
+    }
+
+    @Override
+    public View getViewForPositionAndType(RecyclerView.Recycler recycler, int position, int type) {
+        final RecyclerView.ViewHolder warmViewHolder = warmSectorViewHolders.get(position);
+        if (warmViewHolder == null || warmViewHolder.getItemViewType() != type) {
+            return null;
+        }
+        warmSectorViewHolders.remove(position);
+        // item might have been loaded since prefetching - rebinding the same item is cheap
+        getAdapter().bindViewHolder(warmViewHolder, position);
+        return warmViewHolder.itemView;
+    }
+
+    private void prefetchWithinDeadline(long deadlineInNanos) {
+        releaseViewHoldersOutOfPrefetchRange();
+
+        final RecyclerView.Adapter adapter = getAdapter();
+        if (adapter == null || adapter.getItemCount() == 0) {
+            return;
+        }
+
+        for (int i = 0; i < positionsAmountToPrefetch; i++) {
+            if (System.nanoTime() >= deadlineInNanos) {
+                // postpone the rest to the next frame
+                schedulePrefetch(firstPositionToPrefetch, positionsStep, positionsAmountToPrefetch);
+                return;
+            }
+            final int position = firstPositionToPrefetch + i * positionsStep;
+            if (warmSectorViewHolders.get(position) == null && recyclerView.findViewHolderForAdapterPosition(position) == null) {
+                warmSectorViewHolders.put(position, createBoundViewHolder(adapter, position));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RecyclerView.ViewHolder createBoundViewHolder(RecyclerView.Adapter adapter, int position) {
+        final int viewType = adapter.getItemViewType(position);
+        RecyclerView.ViewHolder viewHolder = recyclerView.getRecycledViewPool().getRecycledView(viewType);
+        if (viewHolder == null) {
+            viewHolder = adapter.createViewHolder(recyclerView, viewType);
+        }
+        // prefetched sector isn't displayed yet - its cover is loaded after displayed ones
+        final ImageLoadingScheduler imageLoadingScheduler = ImageLoadingScheduler.getInstance();
+        imageLoadingScheduler.beginPrefetching();
+        try {
+            adapter.bindViewHolder(viewHolder, position);
+        } finally {
+            imageLoadingScheduler.endPrefetching();
+        }
+        return viewHolder;
+    }
+
+    private void releaseViewHoldersOutOfPrefetchRange() {
+        for (int i = warmSectorViewHolders.size() - 1; i >= 0; i--) {
+            final int stepsFromFirstPosition = (warmSectorViewHolders.keyAt(i) - firstPositionToPrefetch) * positionsStep;
+            if (stepsFromFirstPosition < 0 || stepsFromFirstPosition >= positionsAmountToPrefetch) {
+                releaseViewHolder(warmSectorViewHolders.valueAt(i));
+                warmSectorViewHolders.removeAt(i);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void releaseViewHolder(RecyclerView.ViewHolder viewHolder) {
+        final RecyclerView.Adapter adapter = getAdapter();
+        if (adapter != null) {
+            adapter.onViewRecycled(viewHolder);
+        }
+        recyclerView.getRecycledViewPool().putRecycledView(viewHolder);
+    }
+
+    private RecyclerView.Adapter getAdapter() {
+        return recyclerView.getAdapter();
+    }
+
+}
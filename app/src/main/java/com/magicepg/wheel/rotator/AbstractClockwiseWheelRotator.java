@@ -1,7 +1,6 @@
 package com.magicepg.wheel.rotator;
 
 import android.support.v7.widget.RecyclerView;
-import android.view.View;
 
 import com.magicepg.wheel.layout.AbstractWheelLayoutManager;
 import com.magicepg.wheel.WheelComputationHelper;
@@ -17,13 +16,8 @@ public abstract class AbstractClockwiseWheelRotator extends AbstractWheelRotator
     }
 
     @Override
-    public final void rotateWheelBy(double rotationAngleInRad) {
-        for (int i = 0; i < wheelLayoutManager.getChildCount(); i++) {
-            final View sectorView = wheelLayoutManager.getChildAt(i);
-            final AbstractWheelLayoutManager.LayoutParams sectorViewLp = AbstractWheelLayoutManager.getChildLayoutParams(sectorView);
-            sectorViewLp.anglePositionInRad -= rotationAngleInRad;
-            wheelLayoutManager.alignBigWrapperViewByAngle(sectorView, -sectorViewLp.anglePositionInRad);
-        }
+    public final boolean rotateWheelBy(double rotationAngleInRad) {
+        return wheelLayoutManager.rotatePhaseBy(-rotationAngleInRad);
     }
 
     @Override
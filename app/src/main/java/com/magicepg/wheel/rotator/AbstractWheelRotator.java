@@ -23,8 +23,11 @@ public abstract class AbstractWheelRotator {
     /**
      * Does wheel rotation into appropriate direction {@code clockwise}
      * or {@code anticlockwise} depending of implementation.
+     *
+     * @return {@code true} if sector views have been re-based, so sectors
+     * have to be added and recycled
      */
-    public abstract void rotateWheelBy(double rotationAngleInRad);
+    public abstract boolean rotateWheelBy(double rotationAngleInRad);
 
     /**
      * Convenient method for combining invocation of {@link #addSectors(RecyclerView.Recycler, RecyclerView.State)}
@@ -18,12 +18,12 @@ public final class BottomAnticlockwiseWheelRotator extends AbstractAnticlockwise
 
     @Override
     protected void recycleSectorsFromTopIfNeeded(RecyclerView.Recycler recycler) {
-        for (int i = 0; i < wheelLayoutManager.getChildCount(); i++) {
+        for (int i = wheelLayoutManager.getChildCount() - 1; i >= 0; i--) {
             final View sectorView = wheelLayoutManager.getChildAt(i);
             final AbstractWheelLayoutManager.LayoutParams sectorViewLp = AbstractWheelLayoutManager.getChildLayoutParams(sectorView);
             final double sectorViewBottomEdgeAngularPosInRad = computationHelper.getSectorAngleBottomEdgeInRad(sectorViewLp.anglePositionInRad);
 
-            if (sectorViewBottomEdgeAngularPosInRad > wheelLayoutManager.getLayoutStartAngleInRad()) {
+            if (sectorViewBottomEdgeAngularPosInRad > wheelLayoutManager.getSectorsLayoutStartAngleInRad()) {
                 wheelLayoutManager.removeAndRecycleViewAt(i, recycler);
             }
         }
@@ -32,22 +32,21 @@ public final class BottomAnticlockwiseWheelRotator extends AbstractAnticlockwise
     @Override
     protected void addSectorsToBottomIfNeeded(RecyclerView.Recycler recycler, RecyclerView.State state) {
         final View closestToEndSectorView = wheelLayoutManager.getChildClosestToLayoutEndEdge();
-        final AbstractWheelLayoutManager.LayoutParams sectorViewLp = AbstractWheelLayoutManager.getChildLayoutParams(closestToEndSectorView);
+        final double bottomEndLayoutAngleInRad = wheelLayoutManager.getSectorsLayoutEndAngleInRad();
 
-        final double sectorAngleInRad = computationHelper.getWheelConfig().getAngularRestrictions().getSectorAngleInRad();
-        final double bottomEndLayoutAngleInRad = wheelLayoutManager.getLayoutEndAngleInRad();
-
-        double newSectorViewLayoutAngle = sectorViewLp.anglePositionInRad - sectorAngleInRad;
-        double newSectorViewTopEdgeAngularPosInRad = computationHelper.getSectorAngleTopEdgeInRad(newSectorViewLayoutAngle);
         int nextChildPos = wheelLayoutManager.getPosition(closestToEndSectorView) - 1;
+        double newSectorViewTopEdgeAngularPosInRad = computationHelper.getSectorAngleTopEdgeInRad(
+                wheelLayoutManager.computeSectorAngleInRadForPosition(nextChildPos)
+        );
         int alreadyLayoutedChildrenCount = 0;
 
         while (newSectorViewTopEdgeAngularPosInRad > bottomEndLayoutAngleInRad
                 && alreadyLayoutedChildrenCount < state.getItemCount()) {
-            wheelLayoutManager.setupSectorForPosition(recycler, nextChildPos, newSectorViewLayoutAngle, true);
-            newSectorViewLayoutAngle -= sectorAngleInRad;
-            newSectorViewTopEdgeAngularPosInRad = computationHelper.getSectorAngleTopEdgeInRad(newSectorViewLayoutAngle);
+            wheelLayoutManager.setupSectorForPosition(recycler, nextChildPos, true);
             nextChildPos--;
+            newSectorViewTopEdgeAngularPosInRad = computationHelper.getSectorAngleTopEdgeInRad(
+                    wheelLayoutManager.computeSectorAngleInRadForPosition(nextChildPos)
+            );
             alreadyLayoutedChildrenCount++;
         }
     }
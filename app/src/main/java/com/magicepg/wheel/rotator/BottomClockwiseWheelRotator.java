@@ -23,7 +23,7 @@ public final class BottomClockwiseWheelRotator extends AbstractClockwiseWheelRot
             final AbstractWheelLayoutManager.LayoutParams sectorViewLp = AbstractWheelLayoutManager.getChildLayoutParams(sectorView);
             final double sectorViewTopEdgeAngularPosInRad = computationHelper.getSectorAngleTopEdgeInRad(sectorViewLp.anglePositionInRad);
 
-            if (sectorViewTopEdgeAngularPosInRad < wheelLayoutManager.getLayoutEndAngleInRad()) {
+            if (sectorViewTopEdgeAngularPosInRad < wheelLayoutManager.getSectorsLayoutEndAngleInRad()) {
                 wheelLayoutManager.removeAndRecycleViewAt(i, recycler);
             }
         }
@@ -32,21 +32,20 @@ public final class BottomClockwiseWheelRotator extends AbstractClockwiseWheelRot
     @Override
     protected void addSectorsToTopInNeeded(RecyclerView.Recycler recycler, RecyclerView.State state) {
         final View closestToStartSectorView = wheelLayoutManager.getChildClosestToLayoutStartEdge();
-        final AbstractWheelLayoutManager.LayoutParams sectorViewLp = AbstractWheelLayoutManager.getChildLayoutParams(closestToStartSectorView);
 
-        final double sectorAngleInRad = computationHelper.getWheelConfig().getAngularRestrictions().getSectorAngleInRad();
-
-        double newSectorViewLayoutAngle = sectorViewLp.anglePositionInRad + sectorAngleInRad;
-        double newSectorViewBottomEdgeAngularPosInRad = computationHelper.getSectorAngleBottomEdgeInRad(newSectorViewLayoutAngle);
         int nextChildPos = wheelLayoutManager.getPosition(closestToStartSectorView) + 1;
+        double newSectorViewBottomEdgeAngularPosInRad = computationHelper.getSectorAngleBottomEdgeInRad(
+                wheelLayoutManager.computeSectorAngleInRadForPosition(nextChildPos)
+        );
         int alreadyLayoutedChildrenCount = 0;
 
-        while (newSectorViewBottomEdgeAngularPosInRad < wheelLayoutManager.getLayoutStartAngleInRad()
+        while (newSectorViewBottomEdgeAngularPosInRad < wheelLayoutManager.getSectorsLayoutStartAngleInRad()
                 && alreadyLayoutedChildrenCount < state.getItemCount()) {
-            wheelLayoutManager.setupSectorForPosition(recycler, nextChildPos, newSectorViewLayoutAngle, false);
-            newSectorViewLayoutAngle += sectorAngleInRad;
-            newSectorViewBottomEdgeAngularPosInRad = computationHelper.getSectorAngleBottomEdgeInRad(newSectorViewLayoutAngle);
+            wheelLayoutManager.setupSectorForPosition(recycler, nextChildPos, false);
             nextChildPos++;
+            newSectorViewBottomEdgeAngularPosInRad = computationHelper.getSectorAngleBottomEdgeInRad(
+                    wheelLayoutManager.computeSectorAngleInRadForPosition(nextChildPos)
+            );
             alreadyLayoutedChildrenCount++;
         }
     }
@@ -18,12 +18,12 @@ public final class TopAnticlockwiseWheelRotator extends AbstractAnticlockwiseWhe
 
     @Override
     protected void recycleSectorsFromTopIfNeeded(RecyclerView.Recycler recycler) {
-        for (int i = 0; i < wheelLayoutManager.getChildCount(); i++) {
+        for (int i = wheelLayoutManager.getChildCount() - 1; i >= 0; i--) {
             final View sectorView = wheelLayoutManager.getChildAt(i);
             final AbstractWheelLayoutManager.LayoutParams sectorViewLp = AbstractWheelLayoutManager.getChildLayoutParams(sectorView);
             final double sectorViewBottomEdgeAngularPosInRad = computationHelper.getSectorAngleBottomEdgeInRad(sectorViewLp.anglePositionInRad);
 
-            if (sectorViewBottomEdgeAngularPosInRad > wheelLayoutManager.getLayoutEndAngleInRad()) {
+            if (sectorViewBottomEdgeAngularPosInRad > wheelLayoutManager.getSectorsLayoutEndAngleInRad()) {
                 wheelLayoutManager.removeAndRecycleViewAt(i, recycler);
             }
         }
@@ -32,22 +32,21 @@ public final class TopAnticlockwiseWheelRotator extends AbstractAnticlockwiseWhe
     @Override
     protected void addSectorsToBottomIfNeeded(RecyclerView.Recycler recycler, RecyclerView.State state) {
         final View closestToStartSectorView = wheelLayoutManager.getChildClosestToLayoutStartEdge();
-        final AbstractWheelLayoutManager.LayoutParams sectorViewLp = AbstractWheelLayoutManager.getChildLayoutParams(closestToStartSectorView);
+        final double bottomLayoutAngleInRad = wheelLayoutManager.getSectorsLayoutStartAngleInRad();
 
-        final double sectorAngleInRad = computationHelper.getWheelConfig().getAngularRestrictions().getSectorAngleInRad();
-        final double bottomLayoutAngleInRad = wheelLayoutManager.getLayoutStartAngleInRad();
-
-        double newSectorViewLayoutAngle = sectorViewLp.anglePositionInRad - sectorAngleInRad;
-        double newSectorViewTopEdgeAngularPosInRad = computationHelper.getSectorAngleTopEdgeInRad(newSectorViewLayoutAngle);
         int nextChildPos = wheelLayoutManager.getPosition(closestToStartSectorView) - 1;
+        double newSectorViewTopEdgeAngularPosInRad = computationHelper.getSectorAngleTopEdgeInRad(
+                wheelLayoutManager.computeSectorAngleInRadForPosition(nextChildPos)
+        );
         int alreadyLayoutedChildrenCount = 0;
 
         while (newSectorViewTopEdgeAngularPosInRad > bottomLayoutAngleInRad
                 && alreadyLayoutedChildrenCount < state.getItemCount()) {
-            wheelLayoutManager.setupSectorForPosition(recycler, nextChildPos, newSectorViewLayoutAngle, false);
-            newSectorViewLayoutAngle -= sectorAngleInRad;
-            newSectorViewTopEdgeAngularPosInRad = computationHelper.getSectorAngleTopEdgeInRad(newSectorViewLayoutAngle);
+            wheelLayoutManager.setupSectorForPosition(recycler, nextChildPos, false);
             nextChildPos--;
+            newSectorViewTopEdgeAngularPosInRad = computationHelper.getSectorAngleTopEdgeInRad(
+                    wheelLayoutManager.computeSectorAngleInRadForPosition(nextChildPos)
+            );
             alreadyLayoutedChildrenCount++;
         }
     }
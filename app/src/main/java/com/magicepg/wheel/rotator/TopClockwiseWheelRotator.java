@@ -23,7 +23,7 @@ public final class TopClockwiseWheelRotator extends AbstractClockwiseWheelRotato
             final AbstractWheelLayoutManager.LayoutParams sectorViewLp = AbstractWheelLayoutManager.getChildLayoutParams(sectorView);
             final double sectorViewTopEdgeAngularPosInRad = computationHelper.getSectorAngleTopEdgeInRad(sectorViewLp.anglePositionInRad);
 
-            if (sectorViewTopEdgeAngularPosInRad < wheelLayoutManager.getLayoutStartAngleInRad()) {
+            if (sectorViewTopEdgeAngularPosInRad < wheelLayoutManager.getSectorsLayoutStartAngleInRad()) {
                 wheelLayoutManager.removeAndRecycleViewAt(i, recycler);
             }
         }
@@ -32,21 +32,20 @@ public final class TopClockwiseWheelRotator extends AbstractClockwiseWheelRotato
     @Override
     protected void addSectorsToTopInNeeded(RecyclerView.Recycler recycler, RecyclerView.State state) {
         final View closestToEndSectorView = wheelLayoutManager.getChildClosestToLayoutEndEdge();
-        final AbstractWheelLayoutManager.LayoutParams sectorViewLp = AbstractWheelLayoutManager.getChildLayoutParams(closestToEndSectorView);
 
-        final double sectorAngleInRad = computationHelper.getWheelConfig().getAngularRestrictions().getSectorAngleInRad();
-
-        double newSectorViewLayoutAngle = sectorViewLp.anglePositionInRad + sectorAngleInRad;
-        double newSectorViewBottomEdgeAngularPosInRad = computationHelper.getSectorAngleBottomEdgeInRad(newSectorViewLayoutAngle);
         int nextChildPos = wheelLayoutManager.getPosition(closestToEndSectorView) + 1;
+        double newSectorViewBottomEdgeAngularPosInRad = computationHelper.getSectorAngleBottomEdgeInRad(
+                wheelLayoutManager.computeSectorAngleInRadForPosition(nextChildPos)
+        );
         int alreadyLayoutedChildrenCount = 0;
 
-        while (newSectorViewBottomEdgeAngularPosInRad < wheelLayoutManager.getLayoutEndAngleInRad()
+        while (newSectorViewBottomEdgeAngularPosInRad < wheelLayoutManager.getSectorsLayoutEndAngleInRad()
                 && alreadyLayoutedChildrenCount < state.getItemCount()) {
-            wheelLayoutManager.setupSectorForPosition(recycler, nextChildPos, newSectorViewLayoutAngle, true);
-            newSectorViewLayoutAngle += sectorAngleInRad;
-            newSectorViewBottomEdgeAngularPosInRad = computationHelper.getSectorAngleBottomEdgeInRad(newSectorViewLayoutAngle);
+            wheelLayoutManager.setupSectorForPosition(recycler, nextChildPos, true);
             nextChildPos++;
+            newSectorViewBottomEdgeAngularPosInRad = computationHelper.getSectorAngleBottomEdgeInRad(
+                    wheelLayoutManager.computeSectorAngleInRadForPosition(nextChildPos)
+            );
             alreadyLayoutedChildrenCount++;
         }
     }
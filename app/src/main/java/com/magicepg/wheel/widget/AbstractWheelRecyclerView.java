@@ -4,11 +4,18 @@ import android.content.Context;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.PointF;
 import android.support.v7.widget.RecyclerView;
+import android.support.v4.view.MotionEventCompat;
 import android.util.AttributeSet;
+import android.view.MotionEvent;
 import android.view.View;
 
+import com.bumptech.glide.Priority;
+import com.magicepg.image.ImageLoadingScheduler;
+import com.magicepg.util.FlingUtils;
 import com.magicepg.wheel.WheelAdapter;
+import com.magicepg.wheel.WheelDataWindow;
 import com.magicepg.wheel.WheelListener;
 import com.magicepg.wheel.entity.WheelDataItem;
 import com.magicepg.wheel.entity.WheelRotationDirection;
@@ -40,6 +47,12 @@ public abstract class AbstractWheelRecyclerView extends RecyclerView {
      */
     private int lastlySelectedSectorAdapterPosition = RecyclerView.NO_POSITION;
 
+    /**
+     * Selected sector's data item might be not loaded yet. In this case selection
+     * notification is postponed until page with this item arrives.
+     */
+    private boolean isSelectedDataItemPending;
+
     private WheelListener.WheelRotationState lastWheelRotationState = WheelListener.WheelRotationState.RotationStopped;
 
     protected final Paint gapRayDrawingPaint;
@@ -47,11 +60,23 @@ public abstract class AbstractWheelRecyclerView extends RecyclerView {
 
     private final List<WheelListener> dataItemSelectionListeners = new ArrayList<>();
 
+    private final WheelFlingEngine flingEngine;
+
+    /**
+     * Action which has to be run when wheel is laid out next time.
+     */
+    private Runnable afterNextLayoutAction;
+
+    /**
+     * Aligns sectors after dragging. Fling is already finished at aligned angle,
+     * so no adjustment rotation is required then.
+     */
     private class AutoAngleAdjustmentScrollListener extends OnScrollListener {
 
         @Override
         public void onScrollStateChanged(RecyclerView recyclerView, int newState) {
-            if (!isWheelInRotationStage()) {
+            // when wheel is about to be relaid out its current rotation state is stale
+            if (!isWheelInRotationStage() && !isLayoutRequested()) {
                 final double rotateByAngleInRad = computeAdjustmentRotationAngle();
                 smoothRotateWheelByAngleInRad(rotateByAngleInRad, WheelRotationDirection.Clockwise);
             }
@@ -64,6 +89,16 @@ public abstract class AbstractWheelRecyclerView extends RecyclerView {
         }
     }
 
+    private class PendingSelectionPageLoadedListener implements WheelDataWindow.OnPageLoadedListener {
+
+        @Override
+        public void onPageLoaded(int fromRealPosition, int itemsCount) {
+            if (isSelectedDataItemPending && !isWheelInRotationStage()) {
+                notifyOnDataItemSelected(lastlySelectedSectorAdapterPosition);
+            }
+        }
+    }
+
     public AbstractWheelRecyclerView(Context context) {
         this(context, null);
     }
@@ -78,30 +113,49 @@ public abstract class AbstractWheelRecyclerView extends RecyclerView {
         this.wheelConfig = computationHelper.getWheelConfig();
 
         this.gapRayDrawingPaint = createGapRaysDrawingPaint();
+        this.flingEngine = new WheelFlingEngine(this, computationHelper);
 
         addOnScrollListener(new AutoAngleAdjustmentScrollListener());
+        ImageLoadingScheduler.getInstance().attachTo(this);
     }
 
     @Override
     public void onLayout(boolean changed, int l, int t, int r, int b) {
         super.onLayout(changed, l, t, r, b);
+        // wheel might be relaid out from another position without any rotation
+        if (getLayoutManager() != null && getLayoutManager().isStartupAnimationFinished()) {
+            notifyOnSectorSelectedIfNeeded();
+        }
+        if (afterNextLayoutAction != null) {
+            post(afterNextLayoutAction);
+            afterNextLayoutAction = null;
+        }
     }
 
-    private double computeAdjustmentRotationAngle() {
-        final AbstractWheelLayoutManager.LayoutParams closestToEndEdgeChildLp =
-                AbstractWheelLayoutManager.getChildLayoutParams(getLayoutManager().getChildClosestToLayoutEndEdge());
+    /**
+     * Posts {@code action} once wheel has been laid out next time - e.g. after
+     * {@link #scrollToPosition(int)}, when wheel's rotation state is known.
+     */
+    public void runAfterNextLayout(Runnable action) {
+        this.afterNextLayoutAction = action;
+    }
 
-        final double sectorAngularPositionInRad = closestToEndEdgeChildLp.anglePositionInRad;
+    private double computeAdjustmentRotationAngle() {
+        final AbstractWheelLayoutManager layoutManager = getLayoutManager();
+        final double sectorAngularPositionInRad =
+                layoutManager.computeSectorAnglePositionInRad(layoutManager.getChildClosestToLayoutEndEdge());
         final double sectorAngleTopEdgeInRad = computationHelper.getSectorAngleTopEdgeInRad(sectorAngularPositionInRad);
         final double sectorAngleBottomEdgeInRad = computationHelper.getSectorAngleBottomEdgeInRad(sectorAngularPositionInRad);
 
-        final double layoutEndAngleInRad = getLayoutManager().getLayoutEndAngleInRad();
+        final double layoutEndAngleInRad = layoutManager.getLayoutEndAngleInRad();
         final boolean isInSectorTopPart = layoutEndAngleInRad >= sectorAngularPositionInRad
                 && layoutEndAngleInRad <= sectorAngleTopEdgeInRad;
 
-        return isInSectorTopPart ?
+        final double adjustmentAngleInRad = isInSectorTopPart ?
                 (sectorAngleTopEdgeInRad - layoutEndAngleInRad) :
                 (sectorAngleBottomEdgeInRad - layoutEndAngleInRad);
+        // any sector's edge fits - so wheel which is already aligned (e.g. by fling) isn't rotated by whole sector
+        return Math.IEEEremainder(adjustmentAngleInRad, wheelConfig.getAngularRestrictions().getSectorAngleInRad());
     }
 
     public abstract void handleTapOnSectorView(View sectorViewToSelect);
@@ -122,14 +176,30 @@ public abstract class AbstractWheelRecyclerView extends RecyclerView {
             final int newlySelectedSectorAdapterPos = getNewlySelectedSectorAdapterPosition();
             if (lastlySelectedSectorAdapterPosition != newlySelectedSectorAdapterPos) {
                 lastlySelectedSectorAdapterPosition = newlySelectedSectorAdapterPos;
-                final WheelDataItem selectedSectorDataItem = getAdapter().getDataItemByPosition(newlySelectedSectorAdapterPos);
-                for (WheelListener listener : dataItemSelectionListeners) {
-                    listener.onDataItemSelected(selectedSectorDataItem);
-                }
+                upgradeSelectedSectorCoverLoadingPriority(newlySelectedSectorAdapterPos);
+                notifyOnDataItemSelected(newlySelectedSectorAdapterPos);
             }
         }
     }
 
+    private void upgradeSelectedSectorCoverLoadingPriority(int selectedSectorAdapterPos) {
+        final ViewHolder selectedSectorViewHolder = findViewHolderForAdapterPosition(selectedSectorAdapterPos);
+        if (selectedSectorViewHolder != null) {
+            ((WheelBigWrapperView) selectedSectorViewHolder.itemView).upgradeCoverLoadingPriority(Priority.IMMEDIATE);
+        }
+    }
+
+    private void notifyOnDataItemSelected(int selectedSectorAdapterPos) {
+        final WheelDataItem selectedSectorDataItem = getAdapter().getDataItemByPosition(selectedSectorAdapterPos);
+        isSelectedDataItemPending = selectedSectorDataItem.isPlaceholder();
+        if (isSelectedDataItemPending) {
+            return;
+        }
+        for (WheelListener listener : dataItemSelectionListeners) {
+            listener.onDataItemSelected(selectedSectorDataItem);
+        }
+    }
+
     private void notifyOnWheelRotationStateChanged() {
         WheelListener.WheelRotationState newWheelRotationState = isWheelInRotationStage() ?
                 WheelListener.WheelRotationState.InRotation : WheelListener.WheelRotationState.RotationStopped;
@@ -146,18 +216,28 @@ public abstract class AbstractWheelRecyclerView extends RecyclerView {
      * Returns adapter position for currently selected sector.
      */
     private int getNewlySelectedSectorAdapterPosition() {
+        if (getChildCount() == 0) {
+            return RecyclerView.NO_POSITION;
+        }
+        // selected sector is the last one which is below the gap's top edge
         final double gapTopEdgeAngleInRad = wheelConfig.getAngularRestrictions().getGapAreaTopEdgeAngleRestrictionInRad();
-        final View sectorClosestToTopGapEdge = getLayoutManager().getChildClosestToLayoutStartEdge();
-        final double sectorMiddleLineAnglePositionInRad =
-                AbstractWheelLayoutManager.getChildLayoutParams(sectorClosestToTopGapEdge).anglePositionInRad;
+        final AbstractWheelLayoutManager layoutManager = getLayoutManager();
+        return layoutManager.computeAdapterPositionOfSectorBelowAngle(gapTopEdgeAngleInRad, layoutManager.getPhaseInRad());
+    }
 
-        int newlySelectedSectorAdapterPos = RecyclerView.NO_POSITION;
-        if (sectorMiddleLineAnglePositionInRad > gapTopEdgeAngleInRad) { // sector is above the top gap edge
-            newlySelectedSectorAdapterPos = getChildAdapterPosition(sectorClosestToTopGapEdge) - 1;
-        } else if (sectorMiddleLineAnglePositionInRad < gapTopEdgeAngleInRad) { // sector is below the top gap edge
-            newlySelectedSectorAdapterPos = getChildAdapterPosition(sectorClosestToTopGapEdge);
-        }
-        return newlySelectedSectorAdapterPos;
+    /**
+     * Returns adapter position of the sector which is selected at the current rotation state,
+     * no matter whether wheel is rotated now or not.
+     */
+    public int computeSelectedSectorAdapterPosition() {
+        return getNewlySelectedSectorAdapterPosition();
+    }
+
+    /**
+     * Returns adapter position of the sector selected when wheel stopped lastly.
+     */
+    public int getSelectedSectorAdapterPosition() {
+        return lastlySelectedSectorAdapterPosition;
     }
 
     private boolean isWheelInRotationStage() {
@@ -173,28 +253,105 @@ public abstract class AbstractWheelRecyclerView extends RecyclerView {
     }
 
     /**
-     * Slows down usual fling gesture for RecyclerView.
+     * Fling is done by {@link WheelFlingEngine} instead of RecyclerView's linear fling:
+     * touch velocity is turned into wheel's angular velocity and the wheel is decelerated
+     * right to the resting angle aligned by sectors. Slowed down as usual fling gesture.
+     * <p>
+     * Recycler view stays in {@link #SCROLL_STATE_DRAGGING} state until fling is over, so
+     * touching the wheel during fling is intercepted and stops it.
      */
     @Override
     public boolean fling(int velocityX, int velocityY) {
+        if (getChildCount() == 0 || getLayoutManager() == null) {
+            return false;
+        }
         velocityY *= FLING_GESTURE_VELOCITY_SCALE_DOWN_FACTOR;
-        return super.fling(velocityX, velocityY);
+        if (Math.abs(velocityY) < getMinFlingVelocity()) {
+            return false;
+        }
+
+        final int maxFlingVelocity = getMaxFlingVelocity();
+        final int effectiveVelocityY = Math.max(-maxFlingVelocity, Math.min(velocityY, maxFlingVelocity));
+        final double restingRotationAngleInRad = computeFlingRestingRotationAngleInRad(effectiveVelocityY);
+
+        flingEngine.fling(
+                restingRotationAngleInRad,
+                computationHelper.fromTraveledDistanceToWheelRotationAngle(effectiveVelocityY)
+        );
+        if (!flingEngine.isRunning()) {
+            return false;
+        }
+
+        // selected sector is the last one which is below the gap's top edge
+        final double gapTopEdgeAngleInRad = wheelConfig.getAngularRestrictions().getGapAreaTopEdgeAngleRestrictionInRad();
+        final AbstractWheelLayoutManager layoutManager = getLayoutManager();
+        notifyOnDataItemPredictedToBeSelected(layoutManager.computeAdapterPositionOfSectorBelowAngle(
+                gapTopEdgeAngleInRad, layoutManager.getPhaseInRad() + restingRotationAngleInRad
+        ));
+        return true;
     }
 
     @Override
-    protected void onDetachedFromWindow() {
-        super.onDetachedFromWindow();
-        dataItemSelectionListeners.clear();
+    public boolean onInterceptTouchEvent(MotionEvent e) {
+        if (MotionEventCompat.getActionMasked(e) == MotionEvent.ACTION_DOWN) {
+            flingEngine.abort();
+        }
+        return super.onInterceptTouchEvent(e);
     }
 
     @Override
-    public void scrollToPosition(int position) {
-        throw new UnsupportedOperationException("Don't call this method directly.");
+    public void stopScroll() {
+        flingEngine.abort();
+        super.stopScroll();
     }
 
     @Override
-    public void smoothScrollToPosition(int position) {
-        throw new UnsupportedOperationException("Don't call this method directly.");
+    public void smoothScrollBy(int dx, int dy) {
+        flingEngine.abort();
+        super.smoothScrollBy(dx, dy);
+    }
+
+    private void notifyOnDataItemPredictedToBeSelected(int predictedSectorAdapterPos) {
+        final WheelDataItem predictedDataItem = getAdapter().getDataItemByPosition(predictedSectorAdapterPos);
+        if (predictedDataItem.isPlaceholder()) {
+            return;
+        }
+        for (WheelListener listener : dataItemSelectionListeners) {
+            listener.onDataItemPredictedToBeSelected(predictedDataItem);
+        }
+    }
+
+    /**
+     * Computes rotation angle (positive for anticlockwise rotation) for fling with {@code velocityY}.
+     * Fling's natural rotation is corrected to the closest angle at which a sector's edge is aligned
+     * with layout end edge - the same way as auto angle adjustment does. Wheel is never
+     * rotated against fling's direction.
+     */
+    private double computeFlingRestingRotationAngleInRad(int velocityY) {
+        final double sectorAngleInRad = wheelConfig.getAngularRestrictions().getSectorAngleInRad();
+        final double flingDistance = FlingUtils.computeSplineFlingDistance(getContext(), velocityY);
+        // positive distance stands for anticlockwise rotation - i.e. sectors' angles increase
+        final double flingRotationAngleInRad = computationHelper.fromTraveledDistanceToWheelRotationAngle((int) flingDistance);
+
+        final AbstractWheelLayoutManager layoutManager = getLayoutManager();
+        final double phaseAfterFlingInRad = layoutManager.getPhaseInRad() + flingRotationAngleInRad;
+
+        final double layoutEndAngleInRad = layoutManager.getLayoutEndAngleInRad();
+        final double edgeShiftInSectors =
+                (computationHelper.getSectorAngleTopEdgeInRad(phaseAfterFlingInRad) - layoutEndAngleInRad) / sectorAngleInRad;
+        double restingRotationAngleInRad = flingRotationAngleInRad
+                - (edgeShiftInSectors - Math.round(edgeShiftInSectors)) * sectorAngleInRad;
+
+        if (Math.signum(restingRotationAngleInRad) != Math.signum(velocityY)) {
+            restingRotationAngleInRad += Math.signum(velocityY) * sectorAngleInRad;
+        }
+        return restingRotationAngleInRad;
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        dataItemSelectionListeners.clear();
     }
 
     @Override
@@ -202,11 +359,37 @@ public abstract class AbstractWheelRecyclerView extends RecyclerView {
         return (AbstractWheelLayoutManager) super.getLayoutManager();
     }
 
+    @Override
+    public void setAdapter(Adapter adapter) {
+        super.setAdapter(adapter);
+        ((WheelAdapter) adapter).addPageLoadedListener(new PendingSelectionPageLoadedListener());
+    }
+
     @Override
     public WheelAdapter getAdapter() {
         return (WheelAdapter) super.getAdapter();
     }
 
+    /**
+     * Applies pending container rotation to all sectors at once around wheel's center.
+     */
+    @Override
+    protected void dispatchDraw(Canvas canvas) {
+        final AbstractWheelLayoutManager layoutManager = getLayoutManager();
+        final double containerRotationInRad = layoutManager != null ? layoutManager.getContainerRotationInRad() : 0;
+        if (containerRotationInRad == 0) {
+            super.dispatchDraw(canvas);
+            return;
+        }
+
+        final PointF circleCenter = wheelConfig.getCircleCenterRelToRecyclerView();
+        final int saveCount = canvas.save();
+        // negative rotation angle due to anticlockwise rotation
+        canvas.rotate((float) -WheelComputationHelper.radToDegree(containerRotationInRad), circleCenter.x, circleCenter.y);
+        super.dispatchDraw(canvas);
+        canvas.restoreToCount(saveCount);
+    }
+
     @Override
     public void onDraw(Canvas canvas) {
 //        drawGapLineRay(canvas);
@@ -8,7 +8,6 @@ import android.util.AttributeSet;
 import android.view.View;
 
 import entity.CoordinatesHolder;
-import com.magicepg.wheel.layout.AbstractWheelLayoutManager;
 import com.magicepg.wheel.WheelComputationHelper;
 
 /**
@@ -50,8 +49,9 @@ public class BottomWheelRecyclerView extends AbstractWheelRecyclerView {
     }
 
     private double computeWheelRotationForSector(View sectorViewToSelect) {
-        final AbstractWheelLayoutManager.LayoutParams sectorViewLp = AbstractWheelLayoutManager.getChildLayoutParams(sectorViewToSelect);
-        final double sectorViewBottomEdge = computationHelper.getSectorAngleBottomEdgeInRad(sectorViewLp.anglePositionInRad);
+        final double sectorViewBottomEdge = computationHelper.getSectorAngleBottomEdgeInRad(
+                getLayoutManager().computeSectorAnglePositionInRad(sectorViewToSelect)
+        );
         return getLayoutManager().getLayoutStartAngleInRad() - sectorViewBottomEdge;
     }
 
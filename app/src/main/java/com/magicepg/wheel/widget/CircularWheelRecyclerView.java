@@ -0,0 +1,261 @@
+package com.magicepg.wheel.widget;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Path;
+import android.graphics.PointF;
+import android.support.v4.view.MotionEventCompat;
+import android.util.AttributeSet;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewConfiguration;
+
+import entity.CoordinatesHolder;
+import com.magicepg.wheel.entity.WheelRotationDirection;
+import com.magicepg.wheel.layout.AbstractWheelLayoutManager;
+import com.magicepg.wheel.layout.CircularWheelLayoutManager;
+import com.magicepg.wheel.WheelComputationHelper;
+
+/**
+ * Single view for the whole wheel's ring. Gap is cut while sectors are drawn: children are
+ * drawn in two passes, each one clipped once by its part of the ring, and sector crossing
+ * the gap is drawn in both passes - above and below it.
+ * <p>
+ * Sector crossing the gap is laid out in top part, so its copy below the gap isn't hit
+ * tested by the recycler view - taps on the copy are routed to the sector here.
+ *
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+public class CircularWheelRecyclerView extends AbstractWheelRecyclerView {
+
+    private final PointF topRayPosition;
+    private final PointF bottomRayPosition;
+
+    private final Path topPartClipPath;
+    private final Path bottomPartClipPath;
+
+    private final int touchSlop;
+
+    /**
+     * Tells which ring's part is drawn by the current {@link #dispatchDraw(Canvas)} pass.
+     */
+    private boolean isDrawingBottomPart;
+
+    /**
+     * Sector which copy below the gap has been touched down and might be tapped.
+     */
+    private View touchedSectorCopyView;
+    private float touchDownX;
+    private float touchDownY;
+
+    private final AbstractWheelLayoutManager.WheelOnStartupAnimationListener animationFinishingListener =
+            new AbstractWheelLayoutManager.WheelOnStartupAnimationListener() {
+                @Override
+                public void onAnimationUpdate(AbstractWheelLayoutManager.WheelStartupAnimationStatus animationStatus) {
+                    if (animationStatus == AbstractWheelLayoutManager.WheelStartupAnimationStatus.Finished) {
+                        notifyOnSectorSelectedIfNeeded();
+                    }
+                }
+            };
+
+    public CircularWheelRecyclerView(Context context) {
+        this(context, null);
+    }
+
+    public CircularWheelRecyclerView(Context context, AttributeSet attrs) {
+        this(context, attrs, 0);
+    }
+
+    public CircularWheelRecyclerView(Context context, AttributeSet attrs, int defStyle) {
+        super(context, attrs, defStyle);
+        topRayPosition = computeGapRayPosition(wheelConfig.getAngularRestrictions().getGapAreaTopEdgeAngleRestrictionInRad());
+        bottomRayPosition = computeGapRayPosition(wheelConfig.getAngularRestrictions().getGapAreaBottomEdgeAngleRestrictionInRad());
+        topPartClipPath = createPartClipPath(topRayPosition, 0);
+        bottomPartClipPath = createPartClipPath(bottomRayPosition, computationHelper.getComputedScreenDimensions().getHeight());
+        touchSlop = ViewConfiguration.get(context).getScaledTouchSlop();
+    }
+
+    @Override
+    public void setLayoutManager(LayoutManager layout) {
+        super.setLayoutManager(layout);
+        getLayoutManager().removeWheelStartupAnimationListener(animationFinishingListener);
+        getLayoutManager().addWheelStartupAnimationListener(animationFinishingListener);
+    }
+
+    @Override
+    public CircularWheelLayoutManager getLayoutManager() {
+        return (CircularWheelLayoutManager) super.getLayoutManager();
+    }
+
+    /**
+     * Rotates tapped sector to the selection place - the same way for both ring's parts,
+     * since sectors' angles are continuous along the whole ring.
+     */
+    @Override
+    public void handleTapOnSectorView(View sectorViewToSelect) {
+        final double sectorAngleTopEdgeInRad = computationHelper.getSectorAngleTopEdgeInRad(
+                getLayoutManager().computeSectorAnglePositionInRad(sectorViewToSelect)
+        );
+        final double rotationAngleInRad = sectorAngleTopEdgeInRad - wheelConfig.getAngularRestrictions().getGapAreaTopEdgeAngleRestrictionInRad();
+        smoothRotateWheelByAngleInRad(rotationAngleInRad, WheelRotationDirection.Clockwise);
+    }
+
+    @Override
+    public boolean dispatchTouchEvent(MotionEvent event) {
+        routeTapOnSectorCopy(event);
+        return super.dispatchTouchEvent(event);
+    }
+
+    /**
+     * Tap is recognized the same way as a click on sector view: wheel isn't rotated when it's
+     * touched down and touch isn't moved further than touch slop.
+     */
+    private void routeTapOnSectorCopy(MotionEvent event) {
+        switch (MotionEventCompat.getActionMasked(event)) {
+            case MotionEvent.ACTION_DOWN:
+                touchDownX = event.getX();
+                touchDownY = event.getY();
+                touchedSectorCopyView = getScrollState() == SCROLL_STATE_IDLE ?
+                        findSectorCopyUnder(touchDownX, touchDownY) : null;
+                break;
+            case MotionEvent.ACTION_MOVE:
+                if (touchedSectorCopyView != null && !isWithinTouchSlop(event)) {
+                    touchedSectorCopyView = null;
+                }
+                break;
+            case MotionEvent.ACTION_UP:
+                if (touchedSectorCopyView != null && isWithinTouchSlop(event)) {
+                    handleTapOnSectorView(touchedSectorCopyView);
+                }
+                touchedSectorCopyView = null;
+                break;
+            case MotionEvent.ACTION_CANCEL:
+                touchedSectorCopyView = null;
+                break;
+        }
+    }
+
+    private boolean isWithinTouchSlop(MotionEvent event) {
+        return Math.abs(event.getX() - touchDownX) <= touchSlop && Math.abs(event.getY() - touchDownY) <= touchSlop;
+    }
+
+    /**
+     * Returns sector crossing the gap which copy below the gap is at ({@code x}, {@code y}),
+     * or {@code null} when there is no such copy there.
+     */
+    private View findSectorCopyUnder(float x, float y) {
+        final PointF circleCenter = wheelConfig.getCircleCenterRelToRecyclerView();
+        // y axis is directed upwards in circle coords system
+        final CoordinatesHolder touchPoint = CoordinatesHolder.ofRect(x - circleCenter.x, circleCenter.y - y);
+        final double touchRadius = touchPoint.getRadius();
+        final double touchAngleInRad = touchPoint.getAngleInRad();
+        if (touchRadius < wheelConfig.getInnerRadius() || touchRadius > wheelConfig.getOuterRadius()
+                || touchAngleInRad >= wheelConfig.getAngularRestrictions().getGapAreaBottomEdgeAngleRestrictionInRad()) {
+            return null;
+        }
+
+        final CircularWheelLayoutManager layoutManager = getLayoutManager();
+        // copy is drawn shifted by bottom part angle shift from the sector itself
+        final double sectorTouchAngleInRad = touchAngleInRad - layoutManager.getBottomPartAngleShiftInRad();
+        for (int i = 0; i < getChildCount(); i++) {
+            final View child = getChildAt(i);
+            final double sectorAnglePositionInRad = layoutManager.computeSectorAnglePositionInRad(child);
+            if (layoutManager.isSectorVisibleInTopPart(sectorAnglePositionInRad)
+                    && layoutManager.isSectorVisibleInBottomPart(sectorAnglePositionInRad)
+                    && sectorTouchAngleInRad >= computationHelper.getSectorAngleBottomEdgeInRad(sectorAnglePositionInRad)
+                    && sectorTouchAngleInRad <= computationHelper.getSectorAngleTopEdgeInRad(sectorAnglePositionInRad)) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Children are drawn twice - once per ring's part, so each part is clipped only once per frame.
+     */
+    @Override
+    protected void dispatchDraw(Canvas canvas) {
+        int saveCount = canvas.save();
+        canvas.clipPath(topPartClipPath);
+        isDrawingBottomPart = false;
+        super.dispatchDraw(canvas);
+        canvas.restoreToCount(saveCount);
+
+        saveCount = canvas.save();
+        canvas.clipPath(bottomPartClipPath);
+        isDrawingBottomPart = true;
+        super.dispatchDraw(canvas);
+        canvas.restoreToCount(saveCount);
+    }
+
+    @Override
+    protected boolean drawChild(Canvas canvas, View child, long drawingTime) {
+        final CircularWheelLayoutManager layoutManager = getLayoutManager();
+        final double sectorAnglePositionInRad = layoutManager.computeSectorAnglePositionInRad(child);
+        final boolean isVisibleInTopPart = layoutManager.isSectorVisibleInTopPart(sectorAnglePositionInRad);
+
+        if (!isDrawingBottomPart) {
+            return isVisibleInTopPart && super.drawChild(canvas, child, drawingTime);
+        }
+        if (!layoutManager.isSectorVisibleInBottomPart(sectorAnglePositionInRad)) {
+            return false;
+        }
+        if (!isVisibleInTopPart) {
+            return super.drawChild(canvas, child, drawingTime);
+        }
+
+        // view is rotated into top part - draw its copy below the gap
+        final PointF circleCenter = wheelConfig.getCircleCenterRelToRecyclerView();
+        final float bottomPartShiftInDegree = (float) WheelComputationHelper.radToDegree(layoutManager.getBottomPartAngleShiftInRad());
+        final int saveCount = canvas.save();
+        // negative rotation angle due to anticlockwise rotation
+        canvas.rotate(-bottomPartShiftInDegree, circleCenter.x, circleCenter.y);
+        final boolean isInvalidationRequired = super.drawChild(canvas, child, drawingTime);
+        canvas.restoreToCount(saveCount);
+        return isInvalidationRequired;
+    }
+
+    /**
+     * Gap is cut by ring's parts clipping in {@link #dispatchDraw(Canvas)}.
+     */
+    @Override
+    protected void doCutGapArea(Canvas canvas) {
+    }
+
+    @Override
+    protected void drawGapLineRay(Canvas canvas) {
+        final PointF circleCenterRelToRecyclerView = wheelConfig.getCircleCenterRelToRecyclerView();
+        canvas.drawLine(
+                circleCenterRelToRecyclerView.x, circleCenterRelToRecyclerView.y,
+                topRayPosition.x, topRayPosition.y, gapRayDrawingPaint
+        );
+        canvas.drawLine(
+                circleCenterRelToRecyclerView.x, circleCenterRelToRecyclerView.y,
+                bottomRayPosition.x, bottomRayPosition.y, gapRayDrawingPaint
+        );
+    }
+
+    /**
+     * Area between gap's edge ray and the screen's horizontal edge at {@code screenEdgeY}.
+     */
+    private Path createPartClipPath(PointF rayPosition, float screenEdgeY) {
+        final Path res = new Path();
+        final PointF circleCenterRelToRecyclerView = wheelConfig.getCircleCenterRelToRecyclerView();
+
+        res.moveTo(circleCenterRelToRecyclerView.x, circleCenterRelToRecyclerView.y);
+        res.lineTo(rayPosition.x, rayPosition.y);
+        res.lineTo(rayPosition.x, screenEdgeY);
+        res.lineTo(0, screenEdgeY);
+        res.lineTo(circleCenterRelToRecyclerView.x, circleCenterRelToRecyclerView.y);
+        res.close();
+
+        return res;
+    }
+
+    private PointF computeGapRayPosition(double gapEdgeAngleInRad) {
+        final PointF pos = CoordinatesHolder.ofPolar(wheelConfig.getOuterRadius(), gapEdgeAngleInRad).toPointF();
+        return WheelComputationHelper.fromCircleCoordsSystemToRecyclerViewCoordsSystem(pos);
+    }
+
+}
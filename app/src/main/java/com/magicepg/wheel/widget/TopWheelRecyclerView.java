@@ -58,8 +58,9 @@ public class TopWheelRecyclerView extends AbstractWheelRecyclerView {
     }
 
     private double computeWheelRotationForTapOnSector(View sectorViewToSelect) {
-        AbstractWheelLayoutManager.LayoutParams sectorViewLp = AbstractWheelLayoutManager.getChildLayoutParams(sectorViewToSelect);
-        final double sectorAngleTopEdgeInRad = computationHelper.getSectorAngleTopEdgeInRad(sectorViewLp.anglePositionInRad);
+        final double sectorAngleTopEdgeInRad = computationHelper.getSectorAngleTopEdgeInRad(
+                getLayoutManager().computeSectorAnglePositionInRad(sectorViewToSelect)
+        );
         return sectorAngleTopEdgeInRad - getLayoutManager().getLayoutStartAngleInRad();
     }
 
@@ -1,12 +1,18 @@
 package com.magicepg.wheel.widget;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.util.AttributeSet;
 import android.view.ViewGroup;
 import android.widget.FrameLayout;
 
 import com.bumptech.glide.Glide;
+import com.bumptech.glide.Priority;
+import com.bumptech.glide.load.DecodeFormat;
+import com.bumptech.glide.load.engine.DiskCacheStrategy;
+import com.bumptech.glide.load.resource.bitmap.BitmapEncoder;
 import com.magicepg.R;
+import com.magicepg.image.ImageLoadingScheduler;
 import com.magicepg.wheel.WheelComputationHelper;
 import com.magicepg.wheel.entity.WheelDataItem;
 
@@ -19,6 +25,11 @@ import butterknife.ButterKnife;
  */
 public final class WheelBigWrapperView extends FrameLayout {
 
+    /**
+     * WEBP keeps sector's transparent corners and is much more compact than PNG.
+     */
+    private static final int SECTOR_COVER_DISK_CACHE_QUALITY = 90;
+
     @Bind(R.id.sector_wrapper_view)
     WheelSectorWrapperView sectorWrapperView;
 
@@ -26,6 +37,13 @@ public final class WheelBigWrapperView extends FrameLayout {
     ViewGroup sectorDataContainer;
 
     private final WheelComputationHelper computationHelper;
+    private final ImageLoadingScheduler imageLoadingScheduler;
+
+    /**
+     * Data item which is currently displayed by this view.
+     */
+    private WheelDataItem boundDataItem;
+    private Priority coverLoadingPriority;
 
     public WheelBigWrapperView(Context context) {
         this(context, null);
@@ -39,6 +57,7 @@ public final class WheelBigWrapperView extends FrameLayout {
         super(context, attrs, defStyleAttr);
 
         computationHelper = WheelComputationHelper.getInstance();
+        imageLoadingScheduler = ImageLoadingScheduler.getInstance();
         inflateAndBindContent(context);
         initSectorWrapperView();
         setLayerType(ViewGroup.LAYER_TYPE_HARDWARE, null);
@@ -57,20 +76,104 @@ public final class WheelBigWrapperView extends FrameLayout {
         sectorWrapperView.setSectorClipArea(computationHelper.getSectorClipArea());
     }
 
-    public void bindData(WheelDataItem dataItem) {
-        loadSectorCoverImage(dataItem);
+    /**
+     * Binds {@code dataItem} unless the same item is already displayed.
+     *
+     * @param coverLoadingPriority priority of cover's image request
+     * @return {@code true} if view has been actually rebound
+     */
+    public boolean bindData(WheelDataItem dataItem, Priority coverLoadingPriority) {
+        if (dataItem.equals(boundDataItem)) {
+            return false;
+        }
+        boundDataItem = dataItem;
+        scheduleSectorCoverImageLoading(dataItem, coverLoadingPriority);
+        sectorWrapperView.setSectorLeftEdgeColor(dataItem.getLeftEdgeColor());
+        return true;
+    }
+
+    /**
+     * Raises priority of cover's request which is held back by fast scrolling - e.g. prefetched
+     * sector has become displayed or selected. Started request keeps its bind-time priority:
+     * re-issuing it would cancel decoding in progress and start it over. Lower priority is ignored.
+     */
+    public void upgradeCoverLoadingPriority(Priority priority) {
+        final boolean isCoverLoadPending = boundDataItem != null && boundDataItem.hasCover()
+                && imageLoadingScheduler.isLoadPending(sectorWrapperView);
+        if (isCoverLoadPending && priority.ordinal() < coverLoadingPriority.ordinal()) {
+            scheduleSectorCoverImageLoading(boundDataItem, priority);
+        }
+    }
+
+    /**
+     * Cancels cover's loading of recycled view, so it's neither decoded nor started
+     * after fast scrolling. View is rebound from scratch next time.
+     */
+    public void unbind() {
+        boundDataItem = null;
+        imageLoadingScheduler.cancel(sectorWrapperView);
+    }
+
+    /**
+     * Binds {@code dataItem} which is already displayed by {@code displayingView} - i.e. the same
+     * sector shown by the other wheel's part while it crosses the gap. The same cover request is
+     * started, so it's served synchronously from Glide's active resources - cover's bitmap stays
+     * reference counted by Glide and isn't released while any of both views still draws it.
+     * It's never held back by fast scrolling, since nothing is decoded.
+     *
+     * @return {@code false} if {@code displayingView} has nothing to share for {@code dataItem}
+     * - e.g. its cover is still being loaded - so regular {@link #bindData(WheelDataItem, Priority)} is required
+     */
+    public boolean bindDataFrom(WheelBigWrapperView displayingView, WheelDataItem dataItem) {
+        if (dataItem.equals(boundDataItem) || !dataItem.equals(displayingView.boundDataItem)) {
+            return false;
+        }
+        if (dataItem.hasCover() && displayingView.sectorWrapperView.getDrawable() == null) {
+            return false;
+        }
+
+        boundDataItem = dataItem;
+        loadSectorCoverImage(dataItem, Priority.IMMEDIATE);
         sectorWrapperView.setSectorLeftEdgeColor(dataItem.getLeftEdgeColor());
+        return true;
+    }
+
+    private void scheduleSectorCoverImageLoading(final WheelDataItem wheelDataItem, final Priority coverLoadingPriority) {
+        this.coverLoadingPriority = coverLoadingPriority;
+        imageLoadingScheduler.load(sectorWrapperView, new Runnable() {
+            @Override
+            public void run() {
+                loadSectorCoverImage(wheelDataItem, coverLoadingPriority);
+            }
+        });
     }
 
-    private void loadSectorCoverImage(WheelDataItem wheelDataItem) {
+    private void loadSectorCoverImage(WheelDataItem wheelDataItem, Priority coverLoadingPriority) {
         if (wheelDataItem.hasCover()) {
             final int coverRequiredWidth = computationHelper.getSectorWrapperViewMeasurements().getWidth();
             final int coverRequiredHeight = computationHelper.getSectorWrapperViewMeasurements().getHeight();
-            Glide.with(getContext())
+            this.coverLoadingPriority = coverLoadingPriority;
+            imageLoadingScheduler.getRequestManager()
                     .load(wheelDataItem.getCoverUri().get())
+                    .asBitmap()
+                    .format(DecodeFormat.PREFER_ARGB_8888)
                     .override(coverRequiredWidth, coverRequiredHeight)
-                    .fitCenter()
+                    // masked cover is cached by Glide, so it's produced once per uri and edge color
+                    .transform(new WheelSectorCoverTransformation(
+                            getContext(), computationHelper.getSectorClipArea(), wheelDataItem.getLeftEdgeColor()
+                    ))
+                    // only finished sector's bitmap is stored on disk - on cold start it's decoded
+                    // from there instead of the full size cover
+                    .diskCacheStrategy(DiskCacheStrategy.RESULT)
+                    .encoder(new BitmapEncoder(Bitmap.CompressFormat.WEBP, SECTOR_COVER_DISK_CACHE_QUALITY))
+                    // cross fading would blend the cover with placeholder's sector edge
+                    .dontAnimate()
+                    .priority(coverLoadingPriority)
                     .into(sectorWrapperView);
+        } else {
+            // view might be recycled - get rid of previously bound item's cover
+            Glide.clear(sectorWrapperView);
+            sectorWrapperView.setImageDrawable(null);
         }
     }
 
@@ -0,0 +1,103 @@
+package com.magicepg.wheel.widget;
+
+import android.support.v7.widget.RecyclerView;
+import android.view.animation.DecelerateInterpolator;
+
+import com.magicepg.animation.FrameAnimation;
+import com.magicepg.animation.FrameAnimationClock;
+import com.magicepg.wheel.WheelComputationHelper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rotates the wheel by fling gesture to already known resting angle along a single
+ * deceleration curve {@code angle(t) = totalAngle * (1 - (1 - t / duration) ^ N)}.
+ * Curve's duration is chosen so the wheel starts rotating exactly with fling's angular velocity.
+ * <p>
+ * Curve is sampled once per frame by {@link FrameAnimationClock}, and only the difference with
+ * the previous frame is applied to the wheel - i.e. one scroll step per frame.
+ *
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+final class WheelFlingEngine {
+
+    private static final int DECELERATION_CURVE_EXPONENT = 3;
+
+    private static final long MIN_FLING_DURATION_IN_MILLIS = 150;
+    private static final long MAX_FLING_DURATION_IN_MILLIS = 3000;
+
+    private final RecyclerView recyclerView;
+    private final WheelComputationHelper computationHelper;
+
+    /**
+     * Animates traveled distance from 0 to the total one. Positive distance stands
+     * for anticlockwise rotation - as for scrolling.
+     */
+    private final FrameAnimation flingAnimation;
+    private int traveledDistance;
+
+    WheelFlingEngine(RecyclerView recyclerView, WheelComputationHelper computationHelper) {
+        this.recyclerView = recyclerView;
+        this.computationHelper = computationHelper;
+        this.flingAnimation = new FrameAnimation()
+                // 1 - (1 - t) ^ (2 * factor)
+                .setInterpolator(new DecelerateInterpolator(DECELERATION_CURVE_EXPONENT / 2f))
+                .addListener(new FrameAnimation.ListenerAdapter() {
+                    @Override
+                    public void onAnimationUpdate(FrameAnimation animation) {
+                        onFlingStep(Math.round(animation.getAnimatedValue()));
+                    }
+
+                    @Override
+                    public void onAnimationEnd(FrameAnimation animation) {
+                        // wheel is already at resting angle - notify scroll listeners rotation is over
+                        WheelFlingEngine.this.recyclerView.stopScroll();
+                    }
+                });
+    }
+
+    boolean isRunning() {
+        return flingAnimation.isRunning();
+    }
+
+    /**
+     * Starts wheel rotation by {@code rotationAngleInRad} (positive for anticlockwise rotation)
+     * with initial {@code angularVelocityInRadPerSec}.
+     */
+    void fling(double rotationAngleInRad, double angularVelocityInRadPerSec) {
+        abort();
+
+        final int totalDistanceToTravel = (int) Math.round(computationHelper.fromWheelRotationAngleToTraveledDistance(rotationAngleInRad));
+        if (totalDistanceToTravel == 0) {
+            return;
+        }
+
+        // initial velocity of the curve equals to N * totalAngle / duration
+        final double durationInSec = DECELERATION_CURVE_EXPONENT * Math.abs(rotationAngleInRad / angularVelocityInRadPerSec);
+        final long durationInMillis = Math.max(MIN_FLING_DURATION_IN_MILLIS,
+                Math.min(MAX_FLING_DURATION_IN_MILLIS, (long) (TimeUnit.SECONDS.toMillis(1) * durationInSec))
+        );
+
+        traveledDistance = 0;
+        flingAnimation.setDuration(durationInMillis);
+        flingAnimation.setFloatValues(0, totalDistanceToTravel);
+        flingAnimation.start();
+    }
+
+    /**
+     * Stops rotation at the current angle. Recycler view's scroll state isn't changed.
+     */
+    void abort() {
+        flingAnimation.cancel();
+    }
+
+    private void onFlingStep(int distanceToTravel) {
+        final int scrollStep = distanceToTravel - traveledDistance;
+        if (scrollStep != 0) {
+            traveledDistance = distanceToTravel;
+            recyclerView.scrollBy(0, scrollStep);
+        }
+    }
+
+}
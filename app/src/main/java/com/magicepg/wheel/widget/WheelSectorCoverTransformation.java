@@ -0,0 +1,95 @@
+package com.magicepg.wheel.widget;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapShader;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.graphics.Shader;
+
+import com.bumptech.glide.load.engine.bitmap_recycle.BitmapPool;
+import com.bumptech.glide.load.resource.bitmap.BitmapTransformation;
+import com.magicepg.wheel.entity.WheelSectorClipAreaDescriptor;
+
+import entity.Color;
+
+/**
+ * Produces finished sector's bitmap from decoded cover on Glide's worker thread: cover is stretched
+ * to sector view's size - as {@link WheelSectorWrapperView} with {@code fitXY} scale type does -
+ * masked by sector's shape and sector's left edge is drawn over it.
+ * <p>
+ * Transformation's id includes version, sector's geometry, screen density and left edge color,
+ * so Glide caches masked covers - both in memory and on disk - by (uri, id). Covers cached for
+ * another geometry or version aren't hit anymore and are evicted by disk cache's size bound.
+ *
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+final class WheelSectorCoverTransformation extends BitmapTransformation {
+
+    /**
+     * Has to be increased whenever masked covers are drawn differently - all previously
+     * cached covers are invalidated then.
+     */
+    private static final int MASKED_COVER_VERSION = 1;
+
+    private final WheelSectorClipAreaDescriptor sectorClipArea;
+    private final Color leftEdgeColor;
+    private final float density;
+
+    WheelSectorCoverTransformation(Context context, WheelSectorClipAreaDescriptor sectorClipArea, Color leftEdgeColor) {
+        super(context);
+        this.sectorClipArea = sectorClipArea;
+        this.leftEdgeColor = leftEdgeColor;
+        this.density = context.getResources().getDisplayMetrics().density;
+    }
+
+    @Override
+    protected Bitmap transform(BitmapPool pool, Bitmap toTransform, int outWidth, int outHeight) {
+        Bitmap res = pool.get(outWidth, outHeight, Bitmap.Config.ARGB_8888);
+        if (res == null) {
+            res = Bitmap.createBitmap(outWidth, outHeight, Bitmap.Config.ARGB_8888);
+        }
+
+        final BitmapShader coverShader = new BitmapShader(toTransform, Shader.TileMode.CLAMP, Shader.TileMode.CLAMP);
+        final Matrix coverShaderMatrix = new Matrix();
+        coverShaderMatrix.setRectToRect(
+                new RectF(0, 0, toTransform.getWidth(), toTransform.getHeight()),
+                new RectF(0, 0, outWidth, outHeight),
+                Matrix.ScaleToFit.FILL
+        );
+        coverShader.setLocalMatrix(coverShaderMatrix);
+
+        final Paint coverPaint = new Paint(Paint.ANTI_ALIAS_FLAG | Paint.FILTER_BITMAP_FLAG);
+        coverPaint.setShader(coverShader);
+
+        final Paint leftEdgePaint = WheelSectorWrapperView.createSectorEdgeDrawingPaint();
+        leftEdgePaint.setColor(leftEdgeColor.toPackedInt());
+
+        final Canvas canvas = new Canvas(res);
+        canvas.drawPath(sectorClipArea.getSectorShapePath(), coverPaint);
+        canvas.drawArc(
+                WheelSectorWrapperView.createLeftEdgeArcEmbracingSquare(sectorClipArea),
+                sectorClipArea.getSectorTopEdgeAngleInDegree(),
+                -sectorClipArea.getSectorSweepAngleInDegree(),
+                false,
+                leftEdgePaint
+        );
+        canvas.setBitmap(null);
+
+        return res;
+    }
+
+    @Override
+    public String getId() {
+        return "WheelSectorCoverTransformation{" +
+                "version=" + MASKED_COVER_VERSION +
+                ", sectorGeometryHash=" + sectorClipArea.getGeometryHash() +
+                ", density=" + density +
+                ", leftEdgeColor=" + leftEdgeColor.toPackedInt() +
+                '}';
+    }
+
+}
@@ -5,52 +5,70 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.PointF;
-import android.graphics.drawable.Drawable;
+import android.graphics.Rect;
 import android.support.v7.widget.RecyclerView;
 import android.util.AttributeSet;
 import android.view.View;
 import android.widget.FrameLayout;
 
-import com.magicepg.R;
-import com.magicepg.wheel.layout.AbstractWheelLayoutManager;
+import com.magicepg.animation.FrameAnimationClock;
 import com.magicepg.util.DimensionUtils;
 import com.magicepg.wheel.WheelComputationHelper;
+import com.magicepg.wheel.WheelTrigonometryTable;
 import com.magicepg.wheel.entity.WheelConfig;
+import com.magicepg.wheel.layout.CircularWheelLayoutManager;
 
 /**
- * Renders rays drawables on sector edges.
+ * Renders rays on sector edges. All rays are drawn as a single batch of lines.
  *
  * @author Alexey Kovalev
  * @since 12.02.2017
  */
 public final class WheelSectorRaysDecorationFrameView extends FrameLayout {
 
-    private static final int DEFAULT_RAY_WIDTH = 500;
-    private static final int DEFAULT_RAY_HEIGHT = 10;
-
-    // TODO: WheelOfFortune 28.01.2016 ray with default draw does not fit exactly at sector's edge. This magic constant compensates this divergence.
-    private static final int MAGIC_CONSTANT_FOR_RAY_ALIGNMENT = 0;
-
     private static final int RAY_TRANSPARENCY = 170;
     private static final int RAY_LINE_THICKNESS_IN_DP = 2;
 
+    private static final int FLOATS_PER_RAY = 4;
+    private static final int INITIAL_RAYS_CAPACITY = 24;
+
     private static final double ANGLE_PRECESSION_IN_RAD = WheelComputationHelper.degreeToRadian(0.5);
 
     private final WheelComputationHelper computationHelper;
     private final WheelConfig.AngularRestrictions wheelAngularRestrictions;
 
-    private final Drawable rayDrawable;
     private final Paint rayPaint;
     private final int rayWidth;
 
+    /**
+     * Area covered by rays of any wheel's rotation - the only one invalidated on wheel's scrolling.
+     */
+    private final Rect raysDirtyArea;
+
+    /**
+     * Endpoints of all rays - 4 floats per ray - which are drawn by single {@link Canvas#drawLines(float[], int, int, Paint)}.
+     * Recomputed only when wheel's sectors have been moved.
+     */
+    private float[] rayLinesBuffer = new float[INITIAL_RAYS_CAPACITY * FLOATS_PER_RAY];
+    private int rayLinesFloatsAmount;
+
+    private double raysTopReferenceEdgeAngleInRad = Double.NaN;
+    private double raysBottomReferenceEdgeAngleInRad = Double.NaN;
+    private int raysTopSectorsAmount;
+    private int raysBottomSectorsAmount;
+
+    private final WheelTrigonometryTable trigonometryTable;
+    private final WheelTrigonometryTable.IncrementalAngle topWheelRaysReferenceAngle;
+    private final WheelTrigonometryTable.IncrementalAngle bottomWheelRaysReferenceAngle;
+
     private AbstractWheelRecyclerView topWheelContainerView;
     private AbstractWheelRecyclerView bottomWheelContainerView;
 
     /**
-     * Baseline - is wheel middle line starting from wheel center which goes
-     * directly to the screen's right side without any rotation angle.
+     * Angle to be added to bottom container's sector angles to get their position on the screen.
+     * Non zero only when the whole ring is a single view.
      */
-    private final double bottomWheelContainerRotationRelativeToBaseLineInDegree;
+    private double bottomWheelPartAngleShiftInRad;
 
     public WheelSectorRaysDecorationFrameView(Context context) {
         this(context, null);
@@ -64,13 +82,28 @@ public final class WheelSectorRaysDecorationFrameView extends FrameLayout {
         super(context, attrs, defStyleAttr);
         this.computationHelper = WheelComputationHelper.getInstance();
         this.wheelAngularRestrictions = computationHelper.getWheelConfig().getAngularRestrictions();
-        this.bottomWheelContainerRotationRelativeToBaseLineInDegree = WheelComputationHelper.radToDegree(
-                wheelAngularRestrictions.getGapAreaBottomEdgeAngleRestrictionInRad()
-        );
-        this.rayDrawable = context.getResources().getDrawable(R.drawable.wheel_sector_ray_drawable);
-
-        this.rayWidth = (int) getRayWidth();
+        this.trigonometryTable = computationHelper.getTrigonometryTable();
+        this.topWheelRaysReferenceAngle = trigonometryTable.createIncrementalAngle(wheelAngularRestrictions.getGapAreaTopEdgeAngleRestrictionInRad());
+        this.bottomWheelRaysReferenceAngle = trigonometryTable.createIncrementalAngle(wheelAngularRestrictions.getGapAreaBottomEdgeAngleRestrictionInRad());
+        this.rayWidth = (int) computeRayWidth(computationHelper.getWheelConfig());
         this.rayPaint = createGapRaysDrawingPaint();
+        this.raysDirtyArea = computeRaysDirtyArea(computationHelper.getWheelConfig(), rayWidth, rayPaint.getStrokeWidth());
+    }
+
+    private static float computeRayWidth(WheelConfig wheelConfig) {
+        final double sectorWidth = wheelConfig.getOuterRadius() - wheelConfig.getInnerRadius();
+        return (float) (1.5 * sectorWidth);
+    }
+
+    private static Rect computeRaysDirtyArea(WheelConfig wheelConfig, int rayWidth, float rayThickness) {
+        final PointF circleCenter = wheelConfig.getCircleCenterRelToRecyclerView();
+        final float raysOuterRadius = wheelConfig.getInnerRadius() + rayWidth + rayThickness;
+        return new Rect(
+                (int) Math.floor(circleCenter.x - raysOuterRadius),
+                (int) Math.floor(circleCenter.y - raysOuterRadius),
+                (int) Math.ceil(circleCenter.x + raysOuterRadius),
+                (int) Math.ceil(circleCenter.y + raysOuterRadius)
+        );
     }
 
     private static Paint createGapRaysDrawingPaint() {
@@ -87,126 +120,134 @@ public final class WheelSectorRaysDecorationFrameView extends FrameLayout {
 
         this.topWheelContainerView = topWheelContainerView;
         this.bottomWheelContainerView = bottomWheelContainer;
+        this.bottomWheelPartAngleShiftInRad = 0;
+        // rays have to be recomputed for new containers
+        this.raysTopSectorsAmount = -1;
 
         topWheelContainerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
             @Override
             public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
-                invalidate();
+                FrameAnimationClock.getInstance().invalidate(WheelSectorRaysDecorationFrameView.this, raysDirtyArea);
             }
         });
     }
 
+    /**
+     * The ring's single view plays role of both containers - its bottom part is shifted by
+     * {@link CircularWheelLayoutManager#getBottomPartAngleShiftInRad()}.
+     */
+    public void setWheelRingContainer(CircularWheelRecyclerView wheelRingContainerView) {
+        setWheelContainers(wheelRingContainerView, wheelRingContainerView);
+        this.bottomWheelPartAngleShiftInRad = wheelRingContainerView.getLayoutManager().getBottomPartAngleShiftInRad();
+    }
+
     @Override
     protected void dispatchDraw(Canvas canvas) {
         if (topWheelContainerView != null && bottomWheelContainerView != null) {
-            drawRaysForTopWheelContainer(canvas);
-            drawRaysForBottomWheelContainer(canvas);
+            updateRayLinesBufferIfNeeded();
+            if (rayLinesFloatsAmount > 0) {
+                canvas.drawLines(rayLinesBuffer, 0, rayLinesFloatsAmount, rayPaint);
+            }
         }
         super.dispatchDraw(canvas);
     }
 
-    private void drawRaysForTopWheelContainer(Canvas canvas) {
-        for (int i = 0; i < topWheelContainerView.getChildCount(); i++) {
-            final View sectorView = topWheelContainerView.getChildAt(i);
-            drawRayForTopWheelSector(sectorView, canvas);
-        }
-    }
+    /**
+     * Rays are positioned by the first sector of each wheel's part and by amount of sectors,
+     * so while neither of them is changed rays stay in place.
+     */
+    private void updateRayLinesBufferIfNeeded() {
+        final int topSectorsAmount = topWheelContainerView.getChildCount();
+        final int bottomSectorsAmount = bottomWheelContainerView.getChildCount();
+        final double topReferenceEdgeAngleInRad = topSectorsAmount == 0 ? Double.NaN : computationHelper.getSectorAngleBottomEdgeInRad(
+                getSectorAnglePositionInRad(topWheelContainerView, topWheelContainerView.getChildAt(0))
+        );
+        final double bottomReferenceEdgeAngleInRad = bottomSectorsAmount == 0 ? Double.NaN :
+                getBottomPartSectorTopEdgeAnglePositionInRad(bottomWheelContainerView.getChildAt(0));
 
-    private void drawRaysForBottomWheelContainer(Canvas canvas) {
-        for (int i = 0; i < bottomWheelContainerView.getChildCount(); i++) {
-            final View sectorView = bottomWheelContainerView.getChildAt(i);
-            drawRayForBottomWheelSector(sectorView, canvas);
+        if (topSectorsAmount == raysTopSectorsAmount && bottomSectorsAmount == raysBottomSectorsAmount
+                && Double.compare(topReferenceEdgeAngleInRad, raysTopReferenceEdgeAngleInRad) == 0
+                && Double.compare(bottomReferenceEdgeAngleInRad, raysBottomReferenceEdgeAngleInRad) == 0) {
+            return;
+        }
+        raysTopSectorsAmount = topSectorsAmount;
+        raysBottomSectorsAmount = bottomSectorsAmount;
+        raysTopReferenceEdgeAngleInRad = topReferenceEdgeAngleInRad;
+        raysBottomReferenceEdgeAngleInRad = bottomReferenceEdgeAngleInRad;
+
+        final int maxRaysAmount = topSectorsAmount + bottomSectorsAmount;
+        if (rayLinesBuffer.length < maxRaysAmount * FLOATS_PER_RAY) {
+            rayLinesBuffer = new float[maxRaysAmount * FLOATS_PER_RAY];
         }
+        rayLinesFloatsAmount = 0;
+        addRaysForTopWheelContainer();
+        addRaysForBottomWheelContainer();
     }
 
-    private void drawRayForTopWheelSector(View sectorView, Canvas canvas) {
-        final double sectorAnglePositionInRad = getSectorAnglePositionInRad(sectorView);
-        final double sectorHalfAngleInRad = wheelAngularRestrictions.getSectorAngleInRad() / 2;
-        final double sectorBottomEdgeAnglePositionInRad = sectorAnglePositionInRad - sectorHalfAngleInRad;
-
-        if (sectorBottomEdgeAnglePositionInRad >=
-                wheelAngularRestrictions.getGapAreaTopEdgeAngleRestrictionInRad() - ANGLE_PRECESSION_IN_RAD) {
-
-            final PointF rayStartPoint = getSectorBottomLeftCornerPos(sectorView);
-
-            final double sectorAngleInRad = wheelAngularRestrictions.getSectorAngleInRad();
-            final double bottomLeftCornerSectorAnglePosInRad = getSectorTopEdgeAnglePositionInRad(sectorView) - sectorAngleInRad;
+    /**
+     * Rays of the top wheel go along sectors' bottom edges. Trigonometry is computed
+     * only for the first sector's edge, all others are shifted from it by whole sectors.
+     */
+    private void addRaysForTopWheelContainer() {
+        if (raysTopSectorsAmount == 0) {
+            return;
+        }
+        final double referenceEdgeAngleInRad = raysTopReferenceEdgeAngleInRad;
+        topWheelRaysReferenceAngle.moveTo(referenceEdgeAngleInRad);
 
-            final PointF rayEndPoint = getRayPositionInRecyclerViewCoordsSystem(
-                    bottomLeftCornerSectorAnglePosInRad,
-                    computationHelper.getWheelConfig().getInnerRadius() + rayWidth
+        for (int i = 0; i < topWheelContainerView.getChildCount(); i++) {
+            final View sectorView = topWheelContainerView.getChildAt(i);
+            final double sectorBottomEdgeAnglePositionInRad = computationHelper.getSectorAngleBottomEdgeInRad(
+                    getSectorAnglePositionInRad(topWheelContainerView, sectorView)
             );
-
-            canvas.drawLine(rayStartPoint.x, rayStartPoint.y, rayEndPoint.x, rayEndPoint.y, rayPaint);
+            if (sectorBottomEdgeAnglePositionInRad >=
+                    wheelAngularRestrictions.getGapAreaTopEdgeAngleRestrictionInRad() - ANGLE_PRECESSION_IN_RAD) {
+                final int sectorsShift = trigonometryTable.toSectorsShift(referenceEdgeAngleInRad, sectorBottomEdgeAnglePositionInRad);
+                addRay(topWheelRaysReferenceAngle, sectorsShift);
+            }
         }
     }
 
-    private void drawRayForBottomWheelSector(View sectorView, Canvas canvas) {
-        final PointF rayStartPoint = getSectorTopLeftCornerPos(sectorView);
-        final double sectorTopEdgeAnglePositionInRad = getSectorTopEdgeAnglePositionInRad(sectorView);
-        if (sectorTopEdgeAnglePositionInRad <=
-                wheelAngularRestrictions.getGapAreaBottomEdgeAngleRestrictionInRad() + ANGLE_PRECESSION_IN_RAD) {
-            final PointF rayEndPoint = getRayPositionInRecyclerViewCoordsSystem(
-                    sectorTopEdgeAnglePositionInRad,
-                    computationHelper.getWheelConfig().getInnerRadius() + rayWidth
-            );
-            canvas.drawLine(rayStartPoint.x, rayStartPoint.y, rayEndPoint.x, rayEndPoint.y, rayPaint);
+    /**
+     * Rays of the bottom wheel go along sectors' top edges.
+     */
+    private void addRaysForBottomWheelContainer() {
+        if (raysBottomSectorsAmount == 0) {
+            return;
         }
-    }
+        final double referenceEdgeAngleInRad = raysBottomReferenceEdgeAngleInRad;
+        bottomWheelRaysReferenceAngle.moveTo(referenceEdgeAngleInRad);
 
-    private void drawRayForPosition(Canvas canvas, PointF sectorReferencePoint, float rotateRayByAngle) {
-        canvas.save();
-        // negative rotation angle due to anticlockwise rotation
-        canvas.rotate(-rotateRayByAngle, sectorReferencePoint.x, sectorReferencePoint.y);
-        Drawable topEdgeRayDrawable = getRayDrawable(sectorReferencePoint);
-        topEdgeRayDrawable.draw(canvas);
-        canvas.restore();
+        for (int i = 0; i < bottomWheelContainerView.getChildCount(); i++) {
+            final View sectorView = bottomWheelContainerView.getChildAt(i);
+            final double sectorTopEdgeAnglePositionInRad = getBottomPartSectorTopEdgeAnglePositionInRad(sectorView);
+            if (sectorTopEdgeAnglePositionInRad <=
+                    wheelAngularRestrictions.getGapAreaBottomEdgeAngleRestrictionInRad() + ANGLE_PRECESSION_IN_RAD) {
+                final int sectorsShift = trigonometryTable.toSectorsShift(referenceEdgeAngleInRad, sectorTopEdgeAnglePositionInRad);
+                addRay(bottomWheelRaysReferenceAngle, sectorsShift);
+            }
+        }
     }
 
-    private Drawable getRayDrawable(PointF rayStartPos) {
-        final float startRayPosX = rayStartPos.x;
-        final float startRayPosY = rayStartPos.y - MAGIC_CONSTANT_FOR_RAY_ALIGNMENT;
-        final int rayHeight = rayDrawable.getIntrinsicHeight();
-        rayDrawable.setBounds(
-                (int) startRayPosX,
-                (int) startRayPosY,
-                (int) (startRayPosX + getRayWidth()),
-                (int) (startRayPosY + rayHeight)
+    private void addRay(WheelTrigonometryTable.IncrementalAngle referenceAngle, int sectorsShift) {
+        final int innerRadius = computationHelper.getWheelConfig().getInnerRadius();
+        WheelComputationHelper.fromPolarToRecyclerViewCoordsSystem(
+                innerRadius, referenceAngle, sectorsShift, rayLinesBuffer, rayLinesFloatsAmount
         );
-        return rayDrawable;
-    }
-
-    private float getRayWidth() {
-        final double sectorWidth = computationHelper.getWheelConfig().getOuterRadius() - computationHelper.getWheelConfig().getInnerRadius();
-        return (float) (1.5 * sectorWidth);
-    }
-
-    private PointF getSectorTopLeftCornerPos(View sectorView) {
-        final double topLeftCornerSectorAnglePosInRad = getSectorTopEdgeAnglePositionInRad(sectorView);
-        return getRayPositionInRecyclerViewCoordsSystem(topLeftCornerSectorAnglePosInRad, computationHelper.getWheelConfig().getInnerRadius());
-    }
-
-    private PointF getSectorBottomLeftCornerPos(View sectorView) {
-        final double sectorAngleInRad = wheelAngularRestrictions.getSectorAngleInRad();
-        final double bottomLeftCornerSectorAnglePosInRad = getSectorTopEdgeAnglePositionInRad(sectorView) - sectorAngleInRad;
-        return getRayPositionInRecyclerViewCoordsSystem(bottomLeftCornerSectorAnglePosInRad, computationHelper.getWheelConfig().getInnerRadius());
-    }
-
-    private PointF getRayPositionInRecyclerViewCoordsSystem(double rayReferenceAngleInRad, int radius) {
-        final float refPointXPosInWheelCoordSystem = (float) (radius * Math.cos(rayReferenceAngleInRad));
-        final float refPointYPosInWheelCoordSystem = (float) (radius * Math.sin(rayReferenceAngleInRad));
-        final PointF topLeftCornerPosInWheelCoordsSystem = new PointF(refPointXPosInWheelCoordSystem, refPointYPosInWheelCoordSystem);
-
-        return WheelComputationHelper.fromCircleCoordsSystemToRecyclerViewCoordsSystem(topLeftCornerPosInWheelCoordsSystem);
+        WheelComputationHelper.fromPolarToRecyclerViewCoordsSystem(
+                innerRadius + rayWidth, referenceAngle, sectorsShift, rayLinesBuffer, rayLinesFloatsAmount + 2
+        );
+        rayLinesFloatsAmount += FLOATS_PER_RAY;
     }
 
-    private double getSectorAnglePositionInRad(View sectorView) {
-        final AbstractWheelLayoutManager.LayoutParams childLp = AbstractWheelLayoutManager.getChildLayoutParams(sectorView);
-        return childLp.anglePositionInRad;
+    private static double getSectorAnglePositionInRad(AbstractWheelRecyclerView wheelContainerView, View sectorView) {
+        return wheelContainerView.getLayoutManager().computeSectorAnglePositionInRad(sectorView);
     }
 
-    private double getSectorTopEdgeAnglePositionInRad(View sectorView) {
-        return computationHelper.getSectorAngleTopEdgeInRad(getSectorAnglePositionInRad(sectorView));
+    private double getBottomPartSectorTopEdgeAnglePositionInRad(View sectorView) {
+        return computationHelper.getSectorAngleTopEdgeInRad(
+                getSectorAnglePositionInRad(bottomWheelContainerView, sectorView) + bottomWheelPartAngleShiftInRad
+        );
     }
 
 }
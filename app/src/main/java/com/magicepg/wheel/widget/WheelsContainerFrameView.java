@@ -1,12 +1,15 @@
 package com.magicepg.wheel.widget;
 
 import android.content.Context;
+import android.graphics.Bitmap;
+import android.content.res.TypedArray;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.LinearGradient;
 import android.graphics.Paint;
 import android.graphics.RectF;
 import android.graphics.Shader;
+import android.os.SystemClock;
 import android.support.v4.view.MotionEventCompat;
 import android.support.v7.widget.RecyclerView;
 import android.util.AttributeSet;
@@ -15,12 +18,18 @@ import android.view.View;
 import android.widget.FrameLayout;
 
 import com.magicepg.R;
+import com.magicepg.animation.FrameAnimation;
+import com.magicepg.animation.FrameAnimationClock;
 import com.magicepg.wheel.WheelAdapter;
+import com.magicepg.wheel.WheelDataWindow;
 import com.magicepg.wheel.WheelListener;
 import com.magicepg.wheel.entity.WheelDataItem;
+import com.magicepg.wheel.entity.WheelLayoutMode;
 import com.magicepg.wheel.entity.WheelRotationDirection;
+import com.magicepg.wheel.entity.WheelStartupMode;
 import com.magicepg.wheel.layout.AbstractWheelLayoutManager;
 import com.magicepg.wheel.layout.BottomWheelLayoutManager;
+import com.magicepg.wheel.layout.CircularWheelLayoutManager;
 import com.magicepg.wheel.layout.TopWheelLayoutManager;
 import com.magicepg.util.DimensionUtils;
 import com.magicepg.wheel.WheelComputationHelper;
@@ -46,14 +55,59 @@ public final class WheelsContainerFrameView extends FrameLayout {
     // TODO: WheelOfFortune 01.03.2016 has to be constant from Device configuration class. Find the name of this class.
     private static final double TOUCH_SPOT_SIZE_FOR_CLICK_EVENT = 10.0;
 
+    /**
+     * Rotates each wheel part as one unit instead of rotating every sector view on each frame.
+     */
+    private static final boolean IS_CONTAINER_ROTATION_ENABLED = true;
+
+    /**
+     * Smooth scroll rotates the wheel by this amount of sectors at most. When target data item is
+     * further away, wheel jumps instantly close to it and only the rest of the way is animated.
+     */
+    private static final int SMOOTH_SCROLL_MAX_SECTORS_AMOUNT = 11;
+
+    private static final int DEFAULT_IMMEDIATE_STARTUP_INTRO_DURATION_IN_MILLIS = 150;
+
+    /**
+     * Enough for sector views of the whole wheel's part, so views released
+     * by relayout aren't thrown away.
+     */
+    private static final int SHARED_POOL_MAX_SECTOR_VIEWS_AMOUNT = 12;
+
     private final WheelComputationHelper computationHelper;
 
+    /**
+     * Defined by {@code wheelLayoutMode} attribute - {@link WheelLayoutMode#SeparateParts} by default.
+     */
+    private final WheelLayoutMode wheelLayoutMode;
+
+    /**
+     * Defined by {@code wheelStartupMode} attribute - {@link WheelStartupMode#Immediate} by default.
+     */
+    private final WheelStartupMode startupMode;
+
+    /**
+     * Duration of wheel's fading in for {@link WheelStartupMode#Immediate} startup, defined by
+     * {@code immediateStartupIntroDuration} attribute. Input is accepted while wheel fades in.
+     * Zero stands for no intro at all.
+     */
+    private final long immediateStartupIntroDurationInMillis;
+
     @Bind(R.id.top_wheel_container)
     TopWheelRecyclerView topWheelContainerView;
 
     @Bind(R.id.bottom_wheel_container)
     BottomWheelRecyclerView bottomWheelContainerView;
 
+    @Bind(R.id.circular_wheel_container)
+    CircularWheelRecyclerView circularWheelContainerView;
+
+    /**
+     * View which receives touch events and rotates the wheel - top wheel's part
+     * or the whole ring depending on {@link #wheelLayoutMode}.
+     */
+    private AbstractWheelRecyclerView masterWheelContainerView;
+
     @Bind(R.id.wheel_decoration_frame)
     WheelSectorRaysDecorationFrameView wheelSectorsRaysDecorationFrame;
 
@@ -65,6 +119,43 @@ public final class WheelsContainerFrameView extends FrameLayout {
 
     private int lastTouchAction;
 
+    private OnWheelInteractiveListener wheelInteractiveListener;
+    private final long creationTimeInMillis = SystemClock.uptimeMillis();
+
+    /**
+     * Amount of wheel's parts which startup hasn't been finished yet.
+     */
+    private int notStartedUpPartsAmount;
+
+    private final AbstractWheelLayoutManager.WheelOnStartupAnimationListener startupFinishingListener =
+            new AbstractWheelLayoutManager.WheelOnStartupAnimationListener() {
+                @Override
+                public void onAnimationUpdate(AbstractWheelLayoutManager.WheelStartupAnimationStatus animationStatus) {
+                    if (animationStatus == AbstractWheelLayoutManager.WheelStartupAnimationStatus.Finished
+                            && --notStartedUpPartsAmount == 0) {
+                        onWheelStartupFinished();
+                    }
+                }
+            };
+
+    private final FrameAnimation introFadingAnimation = new FrameAnimation()
+            .addListener(new FrameAnimation.ListenerAdapter() {
+                @Override
+                public void onAnimationUpdate(FrameAnimation animation) {
+                    setAlpha(animation.getAnimatedValue());
+                }
+            });
+
+    public interface OnWheelInteractiveListener {
+
+        /**
+         * Triggers once when wheel starts accepting input.
+         *
+         * @param timeToInteractiveInMillis - time passed since wheel's container creation
+         */
+        void onWheelInteractive(long timeToInteractiveInMillis);
+    }
+
     /**
      * For detecting taping on bottom wheel's sector.
      */
@@ -82,19 +173,97 @@ public final class WheelsContainerFrameView extends FrameLayout {
     public WheelsContainerFrameView(Context context, AttributeSet attrs, int defStyleAttr) {
         super(context, attrs, defStyleAttr);
         computationHelper = WheelComputationHelper.getInstance();
+        final TypedArray attributes = context.obtainStyledAttributes(attrs, R.styleable.WheelsContainerFrameView, defStyleAttr, 0);
+        try {
+            wheelLayoutMode = WheelLayoutMode.values()[attributes.getInt(
+                    R.styleable.WheelsContainerFrameView_wheelLayoutMode, WheelLayoutMode.SeparateParts.ordinal()
+            )];
+            startupMode = WheelStartupMode.values()[attributes.getInt(
+                    R.styleable.WheelsContainerFrameView_wheelStartupMode, WheelStartupMode.Immediate.ordinal()
+            )];
+            immediateStartupIntroDurationInMillis = attributes.getInt(
+                    R.styleable.WheelsContainerFrameView_immediateStartupIntroDuration,
+                    DEFAULT_IMMEDIATE_STARTUP_INTRO_DURATION_IN_MILLIS
+            );
+        } finally {
+            attributes.recycle();
+        }
+        introFadingAnimation.setDuration(immediateStartupIntroDurationInMillis);
         inflateAndBindContainerView(context);
 
 //        topWheelContainerView.showSettings(INVISIBLE);
 //        bottomWheelContainerView.showSettings(INVISIBLE);
 
-        wheelSectorsRaysDecorationFrame.setWheelContainers(topWheelContainerView, bottomWheelContainerView);
+        if (isSingleRingMode()) {
+            topWheelContainerView.setVisibility(GONE);
+            bottomWheelContainerView.setVisibility(GONE);
+            circularWheelContainerView.setVisibility(VISIBLE);
+            masterWheelContainerView = circularWheelContainerView;
 
-        wheelFrameCircleLinesDrawer = new WheelFrameCircleLinesDrawer(
-                computationHelper, topWheelContainerView, bottomWheelContainerView
-        );
+            wheelSectorsRaysDecorationFrame.setWheelRingContainer(circularWheelContainerView);
+            wheelFrameCircleLinesDrawer = new WheelFrameCircleLinesDrawer(
+                    computationHelper, circularWheelContainerView, circularWheelContainerView
+            );
+
+            initCircularWheelContainer();
+            notStartedUpPartsAmount = 1;
+        } else {
+            masterWheelContainerView = topWheelContainerView;
+
+            wheelSectorsRaysDecorationFrame.setWheelContainers(topWheelContainerView, bottomWheelContainerView);
+            wheelFrameCircleLinesDrawer = new WheelFrameCircleLinesDrawer(
+                    computationHelper, topWheelContainerView, bottomWheelContainerView
+            );
+
+            // both wheel's parts display the same sectors sequence - so they share adapter
+            // and sector views released by one part are reused by another one
+            final WheelAdapter sharedWheelAdapter = createEmptyWheelAdapter(new WheelAdapter.OnWheelItemClickListener() {
+                @Override
+                public void onItemClicked(View clickedSectorView) {
+                    ((AbstractWheelRecyclerView) clickedSectorView.getParent()).handleTapOnSectorView(clickedSectorView);
+                }
+            });
+            final RecyclerView.RecycledViewPool sharedSectorViewsPool = new RecyclerView.RecycledViewPool();
+            sharedSectorViewsPool.setMaxRecycledViews(0, SHARED_POOL_MAX_SECTOR_VIEWS_AMOUNT);
+
+            initBottomWheelContainer(sharedWheelAdapter, sharedSectorViewsPool);
+            initTopWheelContainer(sharedWheelAdapter, sharedSectorViewsPool);
+            notStartedUpPartsAmount = 2;
+        }
+
+        if (isFadingInOnStartup()) {
+            setAlpha(0);
+        }
+    }
+
+    public void setOnWheelInteractiveListener(OnWheelInteractiveListener wheelInteractiveListener) {
+        this.wheelInteractiveListener = wheelInteractiveListener;
+    }
+
+    private boolean isFadingInOnStartup() {
+        return startupMode == WheelStartupMode.Immediate && immediateStartupIntroDurationInMillis > 0;
+    }
+
+    private void onWheelStartupFinished() {
+        if (isFadingInOnStartup()) {
+            introFadingAnimation.setFloatValues(0, 1);
+            introFadingAnimation.start();
+        }
+        if (wheelInteractiveListener != null) {
+            wheelInteractiveListener.onWheelInteractive(SystemClock.uptimeMillis() - creationTimeInMillis);
+        }
+    }
+
+    /**
+     * Every wheel's part reports when its startup is finished.
+     */
+    private void configureStartup(AbstractWheelLayoutManager wheelLayoutManager) {
+        wheelLayoutManager.setStartupMode(startupMode);
+        wheelLayoutManager.addWheelStartupAnimationListener(startupFinishingListener);
+    }
 
-        initBottomWheelContainer();
-        initTopWheelContainer();
+    private boolean isSingleRingMode() {
+        return wheelLayoutMode == WheelLayoutMode.SingleRing;
     }
 
     private void inflateAndBindContainerView(Context context) {
@@ -103,18 +272,92 @@ public final class WheelsContainerFrameView extends FrameLayout {
     }
 
     public void addWheelListener(WheelListener listener) {
-        topWheelContainerView.addWheelListener(listener);
+        masterWheelContainerView.addWheelListener(listener);
     }
 
     public void removeWheelListener(WheelListener listener) {
-        topWheelContainerView.removeWheelListener(listener);
+        masterWheelContainerView.removeWheelListener(listener);
+    }
+
+    /**
+     * Returns already loaded data items of sectors surrounding the selected one.
+     */
+    public List<WheelDataItem> getSelectedSectorNeighbourDataItems(int amountAtEachSide) {
+        final int selectedSectorAdapterPosition = masterWheelContainerView.getSelectedSectorAdapterPosition();
+        if (selectedSectorAdapterPosition == RecyclerView.NO_POSITION || masterWheelContainerView.getAdapter().getRealItemCount() == 0) {
+            return Collections.emptyList();
+        }
+        return masterWheelContainerView.getAdapter().getLoadedNeighbourDataItems(selectedSectorAdapterPosition, amountAtEachSide);
+    }
+
+    /**
+     * Instantly rotates the wheel, so data item at {@code realPosition} becomes selected.
+     * Wheel is laid out once no matter how far this item is.
+     */
+    public void scrollToDataItemPosition(int realPosition) {
+        final int selectedSectorAdapterPosition = masterWheelContainerView.computeSelectedSectorAdapterPosition();
+        if (selectedSectorAdapterPosition == RecyclerView.NO_POSITION || masterWheelContainerView.getAdapter().getRealItemCount() == 0) {
+            return;
+        }
+        jumpToSelectVirtualPosition(
+                selectedSectorAdapterPosition + masterWheelContainerView.getAdapter().computeShortestVirtualShift(selectedSectorAdapterPosition, realPosition)
+        );
+    }
+
+    /**
+     * Rotates the wheel with one smooth scroll along the shortest way, so data item at
+     * {@code realPosition} becomes selected.
+     *
+     * @param isSkipMiddleWhenFar - when {@code true} and data item is further than
+     *                            {@link #SMOOTH_SCROLL_MAX_SECTORS_AMOUNT} sectors, the middle
+     *                            of the way is skipped by an instant jump
+     */
+    public void smoothScrollToDataItemPosition(int realPosition, boolean isSkipMiddleWhenFar) {
+        final int selectedSectorAdapterPosition = masterWheelContainerView.computeSelectedSectorAdapterPosition();
+        if (selectedSectorAdapterPosition == RecyclerView.NO_POSITION || masterWheelContainerView.getAdapter().getRealItemCount() == 0) {
+            return;
+        }
+        final int virtualShift = masterWheelContainerView.getAdapter().computeShortestVirtualShift(selectedSectorAdapterPosition, realPosition);
+        final int targetVirtualPosition = selectedSectorAdapterPosition + virtualShift;
+
+        if (isSkipMiddleWhenFar && abs(virtualShift) > SMOOTH_SCROLL_MAX_SECTORS_AMOUNT) {
+            masterWheelContainerView.runAfterNextLayout(new Runnable() {
+                @Override
+                public void run() {
+                    smoothRotateToSelectVirtualPosition(targetVirtualPosition);
+                }
+            });
+            jumpToSelectVirtualPosition(targetVirtualPosition - Integer.signum(virtualShift) * SMOOTH_SCROLL_MAX_SECTORS_AMOUNT);
+        } else {
+            smoothRotateToSelectVirtualPosition(targetVirtualPosition);
+        }
+    }
+
+    /**
+     * Regular layout starts top wheel (or the ring) from the sector next to the selected one
+     * and bottom wheel from the selected one.
+     */
+    private void jumpToSelectVirtualPosition(int virtualPositionToSelect) {
+        if (!isSingleRingMode()) {
+            bottomWheelContainerView.getLayoutManager().setStartLayoutFromAdapterPosition(virtualPositionToSelect);
+        }
+        // layout is requested before stopping rotation, so angle adjustment isn't started for stale state.
+        // Bottom wheel is relaid out as soon as top wheel's layout is finished.
+        masterWheelContainerView.getLayoutManager().scrollToPosition(virtualPositionToSelect + 1);
+        masterWheelContainerView.stopScroll();
+        wheelSectorsRaysDecorationFrame.invalidate();
+    }
+
+    private void smoothRotateToSelectVirtualPosition(int virtualPositionToSelect) {
+        // bottom wheel is rotated by MASTER
+        masterWheelContainerView.smoothScrollToPosition(virtualPositionToSelect + 1);
     }
 
     @Override
     protected void dispatchDraw(Canvas canvas) {
-        if (topWheelContainerView.getLayoutManager().isStartupAnimationLayoutDone()
-                && bottomWheelContainerView.getLayoutManager().isStartupAnimationLayoutDone()) {
-            wheelFrameCircleLinesDrawer.drawWheelGradientedFrame(canvas);
+        if (masterWheelContainerView.getLayoutManager().isStartupAnimationLayoutDone()
+                && (isSingleRingMode() || bottomWheelContainerView.getLayoutManager().isStartupAnimationLayoutDone())) {
+            wheelFrameCircleLinesDrawer.drawWheelGradientedFrame(canvas, getWidth(), getHeight());
         }
         super.dispatchDraw(canvas);
     }
@@ -134,6 +377,14 @@ public final class WheelsContainerFrameView extends FrameLayout {
      */
     @Override
     public boolean onTouchEvent(MotionEvent event) {
+        if (isSingleRingMode()) {
+            // the whole ring is a single view - so no touch events juggling is required
+            if (circularWheelContainerView.getLayoutManager().isStartupAnimationFinished()) {
+                circularWheelContainerView.dispatchTouchEvent(event);
+            }
+            return true;
+        }
+
         // eat touch event if startup animation has not been finished yet
         if (!topWheelContainerView.getLayoutManager().isStartupAnimationFinished()
                 || !bottomWheelContainerView.getLayoutManager().isStartupAnimationFinished()) {
@@ -167,11 +418,10 @@ public final class WheelsContainerFrameView extends FrameLayout {
         return sqrt(deltaXAbs * deltaXAbs + deltaYAbs * deltaYAbs);
     }
 
-    public void swapDataAndRelayoutWheelsStartingFromPosition(List<WheelDataItem> newData, int startLayoutFromPosition) {
+    public void swapDataAndRelayoutWheelsStartingFromPosition(WheelDataWindow newDataWindow, int startLayoutFromPosition) {
         layoutWheelContainersStartingFromPosition(startLayoutFromPosition);
-        final List<WheelDataItem> unmodifiableNewData = Collections.unmodifiableList(newData);
-        topWheelContainerView.getAdapter().swapData(unmodifiableNewData);
-        bottomWheelContainerView.getAdapter().swapData(unmodifiableNewData);
+        // adapter is shared by wheel's parts
+        masterWheelContainerView.getAdapter().swapData(newDataWindow);
 //        wheelSectorsRaysDecorationFrame.invalidate();
     }
 
@@ -187,11 +437,28 @@ public final class WheelsContainerFrameView extends FrameLayout {
         // So for top wheel {@link @WheelAdapter.MIDDLE_VIRTUAL_ITEMS_COUNT} position
         // is treated as zero point - starting layout position.
         final int virtualPositionToStartLayout = WheelAdapter.MIDDLE_VIRTUAL_ITEMS_COUNT + startingPosition;
-        topWheelContainerView.getLayoutManager().setStartLayoutFromAdapterPosition(virtualPositionToStartLayout);
-        bottomWheelContainerView.getLayoutManager().setStartLayoutFromAdapterPosition(virtualPositionToStartLayout - 1);
+        masterWheelContainerView.getLayoutManager().setStartLayoutFromAdapterPosition(virtualPositionToStartLayout);
+        if (!isSingleRingMode()) {
+            bottomWheelContainerView.getLayoutManager().setStartLayoutFromAdapterPosition(virtualPositionToStartLayout - 1);
+        }
     }
 
-    private void initTopWheelContainer() {
+    /**
+     * The ring is laid out, rotated, drawn and touched as one view - no cross-wheel coupling is needed.
+     */
+    private void initCircularWheelContainer() {
+        final CircularWheelLayoutManager circularWheelLayoutManager = new CircularWheelLayoutManager(getContext(), computationHelper, null);
+        configureStartup(circularWheelLayoutManager);
+        circularWheelContainerView.setLayoutManager(circularWheelLayoutManager);
+        circularWheelContainerView.setAdapter(createEmptyWheelAdapter(new WheelAdapter.OnWheelItemClickListener() {
+            @Override
+            public void onItemClicked(View clickedSectorView) {
+                circularWheelContainerView.handleTapOnSectorView(clickedSectorView);
+            }
+        }));
+    }
+
+    private void initTopWheelContainer(WheelAdapter wheelAdapter, RecyclerView.RecycledViewPool sectorViewsPool) {
         final TopWheelLayoutManager topWheelLayoutManager = new TopWheelLayoutManager(
                 getContext(), computationHelper,
                 new AbstractWheelLayoutManager.WheelOnInitialLayoutFinishingListener() {
@@ -219,19 +486,26 @@ public final class WheelsContainerFrameView extends FrameLayout {
                 }
         );
 
+        topWheelLayoutManager.setContainerRotationEnabled(IS_CONTAINER_ROTATION_ENABLED);
+        configureStartup(topWheelLayoutManager);
         topWheelContainerView.setLayoutManager(topWheelLayoutManager);
-        topWheelContainerView.setAdapter(createEmptyWheelAdapter(new WheelAdapter.OnWheelItemClickListener() {
+        topWheelContainerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
             @Override
-            public void onItemClicked(View clickedSectorView) {
-                topWheelContainerView.handleTapOnSectorView(clickedSectorView);
+            public void onScrollStateChanged(RecyclerView recyclerView, int newState) {
+                // bottom wheel is scrolled by MASTER, so it never becomes idle on its own
+                if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+                    bottomWheelContainerView.getLayoutManager().settleContainerRotation();
+                }
             }
-        }));
+        });
+        topWheelContainerView.setRecycledViewPool(sectorViewsPool);
+        topWheelContainerView.setAdapter(wheelAdapter);
         topWheelContainerView.setIsCutGapAreaActivated(true);
 
         addTopWheelItemDecorations(topWheelContainerView);
     }
 
-    private void initBottomWheelContainer() {
+    private void initBottomWheelContainer(WheelAdapter wheelAdapter, RecyclerView.RecycledViewPool sectorViewsPool) {
         final BottomWheelLayoutManager bottomWheelLayoutManager = new BottomWheelLayoutManager(getContext(), computationHelper, null);
         bottomWheelLayoutManager.addWheelStartupAnimationListener(new AbstractWheelLayoutManager.WheelOnStartupAnimationListener() {
             @Override
@@ -245,7 +519,7 @@ public final class WheelsContainerFrameView extends FrameLayout {
             @Override
             public void onAnimationUpdate(AbstractWheelLayoutManager.WheelStartupAnimationStatus animationStatus) {
                 if (animationStatus == AbstractWheelLayoutManager.WheelStartupAnimationStatus.InProgress) {
-                    wheelSectorsRaysDecorationFrame.invalidate();
+                    FrameAnimationClock.getInstance().invalidate(wheelSectorsRaysDecorationFrame);
                 }
             }
         });
@@ -258,13 +532,11 @@ public final class WheelsContainerFrameView extends FrameLayout {
             }
         });
 
+        bottomWheelLayoutManager.setContainerRotationEnabled(IS_CONTAINER_ROTATION_ENABLED);
+        configureStartup(bottomWheelLayoutManager);
         bottomWheelContainerView.setLayoutManager(bottomWheelLayoutManager);
-        bottomWheelContainerView.setAdapter(createEmptyWheelAdapter(new WheelAdapter.OnWheelItemClickListener() {
-            @Override
-            public void onItemClicked(View clickedSectorView) {
-                bottomWheelContainerView.handleTapOnSectorView(clickedSectorView);
-            }
-        }));
+        bottomWheelContainerView.setRecycledViewPool(sectorViewsPool);
+        bottomWheelContainerView.setAdapter(wheelAdapter);
 
         addBottomWheelItemDecorations(bottomWheelContainerView);
     }
@@ -280,9 +552,13 @@ public final class WheelsContainerFrameView extends FrameLayout {
     }
 
     private WheelAdapter createEmptyWheelAdapter(WheelAdapter.OnWheelItemClickListener clickHandler) {
-        return new WheelAdapter(getContext(), Collections.<WheelDataItem>emptyList(), clickHandler);
+        return new WheelAdapter(getContext(), WheelDataWindow.empty(), clickHandler);
     }
 
+    /**
+     * Frame never moves, so it's rendered once into a bitmap which is blitted on every frame.
+     * Bitmap is rebuilt only when container's or wheel parts' sizes change.
+     */
     private static class WheelFrameCircleLinesDrawer {
 
         private static final int FRAME_LINE_COLOR = Color.GRAY;
@@ -306,6 +582,10 @@ public final class WheelsContainerFrameView extends FrameLayout {
         private final int wheelBottomEdgeAngleInDegree;
         private final int wheelFrameSweepAngleInDegree;
 
+        private Bitmap frameBitmap;
+        private int frameBitmapTopWheelViewHeight;
+        private int frameBitmapBottomWheelViewHeight;
+
         WheelFrameCircleLinesDrawer(WheelComputationHelper computationHelper, View topWheelView, View bottomWheelView) {
             this.computationHelper = computationHelper;
             this.topWheelView = topWheelView;
@@ -339,9 +619,37 @@ public final class WheelsContainerFrameView extends FrameLayout {
             return paint;
         }
 
-        void drawWheelGradientedFrame(Canvas canvas) {
-            drawTopWheelDecorationFrame(canvas);
-            drawBottomWheelDecorationFrame(canvas);
+        void drawWheelGradientedFrame(Canvas canvas, int frameWidth, int frameHeight) {
+            if (frameWidth == 0 || frameHeight == 0) {
+                return;
+            }
+            if (isFrameBitmapRebuildRequired(frameWidth, frameHeight)) {
+                rebuildFrameBitmap(frameWidth, frameHeight);
+            }
+            canvas.drawBitmap(frameBitmap, 0, 0, null);
+        }
+
+        private boolean isFrameBitmapRebuildRequired(int frameWidth, int frameHeight) {
+            return frameBitmap == null
+                    || frameBitmap.getWidth() != frameWidth
+                    || frameBitmap.getHeight() != frameHeight
+                    || frameBitmapTopWheelViewHeight != topWheelView.getHeight()
+                    || frameBitmapBottomWheelViewHeight != bottomWheelView.getHeight();
+        }
+
+        /**
+         * Frame is rendered in full color, so gradients from gray to transparent black look exactly
+         * as when they are drawn directly. Previous bitmap isn't recycled - it still might be
+         * referenced by already recorded display list.
+         */
+        private void rebuildFrameBitmap(int frameWidth, int frameHeight) {
+            frameBitmap = Bitmap.createBitmap(frameWidth, frameHeight, Bitmap.Config.ARGB_8888);
+            frameBitmapTopWheelViewHeight = topWheelView.getHeight();
+            frameBitmapBottomWheelViewHeight = bottomWheelView.getHeight();
+
+            final Canvas frameCanvas = new Canvas(frameBitmap);
+            drawTopWheelDecorationFrame(frameCanvas);
+            drawBottomWheelDecorationFrame(frameCanvas);
         }
 
         private void drawTopWheelDecorationFrame(Canvas canvas) {
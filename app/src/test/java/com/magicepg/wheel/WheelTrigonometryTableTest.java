@@ -0,0 +1,108 @@
+package com.magicepg.wheel;
+
+import com.magicepg.wheel.entity.WheelConfig;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Alexey Kovalev
+ * @since 18.10.2026
+ */
+public class WheelTrigonometryTableTest {
+
+    private static final double SECTOR_ANGLE_IN_RAD = Math.PI / 11;
+
+    private static final double TABLE_TOLERANCE = 1e-12;
+
+    private WheelTrigonometryTable table;
+
+    @Before
+    public void setUp() {
+        table = new WheelTrigonometryTable(WheelConfig.AngularRestrictions.builder(SECTOR_ANGLE_IN_RAD).build());
+    }
+
+    @Test
+    public void tableMatchesExactValuesForWholeCircle() {
+        for (int sectorsShift = -table.getMaxSectorsShift(); sectorsShift <= table.getMaxSectorsShift(); sectorsShift++) {
+            final double angleInRad = sectorsShift * SECTOR_ANGLE_IN_RAD;
+            assertEquals(Math.cos(angleInRad), table.cosOfSectorsShift(sectorsShift), TABLE_TOLERANCE);
+            assertEquals(Math.sin(angleInRad), table.sinOfSectorsShift(sectorsShift), TABLE_TOLERANCE);
+        }
+        assertEquals(Math.cos(SECTOR_ANGLE_IN_RAD / 2), table.getSectorHalfAngleCos(), TABLE_TOLERANCE);
+        assertEquals(Math.sin(SECTOR_ANGLE_IN_RAD / 2), table.getSectorHalfAngleSin(), TABLE_TOLERANCE);
+    }
+
+    @Test
+    public void incrementalAngleStaysWithinToleranceWhileRotatedBySmallSteps() {
+        final WheelTrigonometryTable.IncrementalAngle angle = table.createIncrementalAngle(Math.PI / 6);
+        final Random random = new Random(42);
+
+        double angleInRad = Math.PI / 6;
+        for (int step = 0; step < 100000; step++) {
+            // up to a couple of sectors per frame - as it happens while the wheel is flung
+            angleInRad += (random.nextDouble() * 2 - 1) * 2.5 * SECTOR_ANGLE_IN_RAD;
+            angle.moveTo(angleInRad);
+            assertIncrementalAngleIsExact(angle, angleInRad);
+        }
+    }
+
+    @Test
+    public void incrementalAngleStaysWithinToleranceWhileRotatedSteadilyInOneDirection() {
+        final WheelTrigonometryTable.IncrementalAngle clockwiseAngle = table.createIncrementalAngle(0);
+        final WheelTrigonometryTable.IncrementalAngle anticlockwiseAngle = table.createIncrementalAngle(0);
+        final Random random = new Random(7);
+
+        double clockwiseAngleInRad = 0;
+        double anticlockwiseAngleInRad = 0;
+        for (int step = 0; step < 100000; step++) {
+            // the largest residuals Taylor series is applied to - as it happens while the wheel is flung steadily
+            final double stepInRad = 0.09 + random.nextDouble() * 0.01;
+            clockwiseAngleInRad -= stepInRad;
+            anticlockwiseAngleInRad += stepInRad;
+            clockwiseAngle.moveTo(clockwiseAngleInRad);
+            anticlockwiseAngle.moveTo(anticlockwiseAngleInRad);
+            assertIncrementalAngleIsExact(clockwiseAngle, clockwiseAngleInRad);
+            assertIncrementalAngleIsExact(anticlockwiseAngle, anticlockwiseAngleInRad);
+        }
+    }
+
+    @Test
+    public void incrementalAngleStaysWithinToleranceAfterJump() {
+        final WheelTrigonometryTable.IncrementalAngle angle = table.createIncrementalAngle(0);
+        angle.moveTo(3 * Math.PI);
+        assertIncrementalAngleIsExact(angle, 3 * Math.PI);
+        angle.moveTo(-0.37);
+        assertIncrementalAngleIsExact(angle, -0.37);
+    }
+
+    @Test
+    public void shiftedBySectorsValuesMatchExactValues() {
+        final double referenceAngleInRad = -0.123;
+        final WheelTrigonometryTable.IncrementalAngle angle = table.createIncrementalAngle(0);
+        angle.moveTo(referenceAngleInRad);
+
+        for (int sectorsShift = -table.getMaxSectorsShift(); sectorsShift <= table.getMaxSectorsShift(); sectorsShift++) {
+            final double angleInRad = referenceAngleInRad + sectorsShift * SECTOR_ANGLE_IN_RAD;
+            assertEquals(Math.cos(angleInRad), angle.cosShiftedBySectors(sectorsShift), WheelTrigonometryTable.IncrementalAngle.MAX_ERROR);
+            assertEquals(Math.sin(angleInRad), angle.sinShiftedBySectors(sectorsShift), WheelTrigonometryTable.IncrementalAngle.MAX_ERROR);
+        }
+    }
+
+    @Test
+    public void toSectorsShiftRoundsToClosestWholeSector() {
+        assertEquals(3, table.toSectorsShift(0.1, 0.1 + 3.2 * SECTOR_ANGLE_IN_RAD));
+        assertEquals(-2, table.toSectorsShift(0.1, 0.1 - 1.7 * SECTOR_ANGLE_IN_RAD));
+    }
+
+    private static void assertIncrementalAngleIsExact(WheelTrigonometryTable.IncrementalAngle angle, double angleInRad) {
+        assertEquals(angleInRad, angle.getAngleInRad(), 0);
+        assertEquals(Math.cos(angleInRad), angle.getCos(), WheelTrigonometryTable.IncrementalAngle.MAX_ERROR);
+        assertEquals(Math.sin(angleInRad), angle.getSin(), WheelTrigonometryTable.IncrementalAngle.MAX_ERROR);
+    }
+
+}